@@ -0,0 +1,56 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingMapperBenchmark {
+
+	@Param({"100", "1000", "10000"})
+	private int bookings;
+
+	private List<Booking> source;
+
+	@Setup
+	public void setUp() {
+		User owner = Fixtures.user(1);
+		User booker = Fixtures.user(2);
+		BookingStatus[] statuses = BookingStatus.values();
+		source = new ArrayList<>(bookings);
+		for (long id = 1; id <= bookings; id++) {
+			Item item = Fixtures.item(id % 100 + 1, owner, Fixtures.itemRequest(id % 10 + 1, booker));
+			source.add(Fixtures.booking(id, item, booker, statuses[(int) (id % statuses.length)], Fixtures.NOW.plusHours(id)));
+		}
+	}
+
+	@Benchmark
+	public List<BookingDto> toBookingDto() {
+		return source.stream()
+				.map(BookingMapper::toBookingDto)
+				.toList();
+	}
+}
@@ -0,0 +1,123 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingQueryBenchmark {
+
+	private static final int ITEMS = 100;
+
+	private static final int PAGE_SIZE = 10;
+
+	@Param({"1000", "10000"})
+	private int bookings;
+
+	@Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+	private BookingState state;
+
+	private ConfigurableApplicationContext context;
+
+	private BookingService bookingService;
+
+	private Long bookerId;
+
+	private Long ownerId;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(ShareItServer.class)
+				.web(WebApplicationType.NONE)
+				.profiles("test")
+				.run("--spring.jpa.show-sql=false",
+						"--shareit.scheduling.enabled=false",
+						"--logging.level.root=WARN",
+						"--logging.level.org.springframework.orm.jpa=WARN",
+						"--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN",
+						"--logging.level.org.springframework.transaction=WARN",
+						"--logging.level.org.springframework.transaction.interceptor=WARN");
+		bookingService = context.getBean(BookingService.class);
+
+		UserRepository userRepository = context.getBean(UserRepository.class);
+		User owner = userRepository.save(User.builder().name("owner").email("owner@mail.ru").build());
+		User booker = userRepository.save(User.builder().name("booker").email("booker@mail.ru").build());
+		ownerId = owner.getId();
+		bookerId = booker.getId();
+
+		List<Item> items = new ArrayList<>(ITEMS);
+		for (int i = 0; i < ITEMS; i++) {
+			items.add(Item.builder()
+					.name("item_" + i)
+					.description("description_" + i)
+					.isAvailable(true)
+					.owner(owner)
+					.build());
+		}
+		items = context.getBean(ItemRepository.class).saveAll(items);
+
+		BookingStatus[] statuses = BookingStatus.values();
+		LocalDateTime now = LocalDateTime.now();
+		List<Booking> source = new ArrayList<>(bookings);
+		for (int i = 0; i < bookings; i++) {
+			LocalDateTime start = now.plusHours(i - bookings / 2);
+			source.add(Booking.builder()
+					.item(items.get(i % ITEMS))
+					.booker(booker)
+					.status(statuses[i % statuses.length])
+					.start(start)
+					.end(start.plusHours(2))
+					.build());
+		}
+		context.getBean(BookingRepository.class).saveAll(source);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public CursorPage<BookingDto> bookerBookings() {
+		return bookingService.getBookingsByUserIdAndState(bookerId, state, null, 0, PAGE_SIZE);
+	}
+
+	@Benchmark
+	public CursorPage<BookingDto> ownerBookings() {
+		return bookingService.getBookingsByItemOwnerIdAndState(ownerId, state, null, 0, PAGE_SIZE);
+	}
+}
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dao.CommentView;
+import ru.practicum.shareit.item.dao.ItemForRequestView;
+import ru.practicum.shareit.item.dao.ItemView;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+final class Fixtures {
+
+	static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+	private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+	private Fixtures() {
+	}
+
+	static User user(long id) {
+		return User.builder()
+				.id(id)
+				.name("user_" + id)
+				.email("user_" + id + "@mail.ru")
+				.build();
+	}
+
+	static ItemRequest itemRequest(long id, User requestor) {
+		return ItemRequest.builder()
+				.id(id)
+				.description("request_" + id)
+				.requestor(requestor)
+				.created(NOW.minusDays(id))
+				.build();
+	}
+
+	static Item item(long id, User owner, ItemRequest request) {
+		return Item.builder()
+				.id(id)
+				.name("item_" + id)
+				.description("description_" + id)
+				.isAvailable(true)
+				.owner(owner)
+				.request(request)
+				.build();
+	}
+
+	static Booking booking(long id, Item item, User booker, BookingStatus status, LocalDateTime start) {
+		return Booking.builder()
+				.id(id)
+				.item(item)
+				.booker(booker)
+				.status(status)
+				.start(start)
+				.end(start.plusDays(1))
+				.build();
+	}
+
+	static ItemView itemView(long id, Long requestId) {
+		return itemView(id, requestId, null, null);
+	}
+
+	static ItemView itemView(long id, Long requestId, LocalDateTime lastBooking, LocalDateTime nextBooking) {
+		Map<String, Object> values = new HashMap<>();
+		values.put("id", id);
+		values.put("name", "item_" + id);
+		values.put("description", "description_" + id);
+		values.put("isAvailable", true);
+		values.put("requestId", requestId);
+		values.put("lastBooking", lastBooking);
+		values.put("nextBooking", nextBooking);
+		return PROJECTION_FACTORY.createProjection(ItemView.class, values);
+	}
+
+	static ItemForRequestView itemForRequestView(long id, long ownerId, long requestId) {
+		Map<String, Object> values = new HashMap<>();
+		values.put("id", id);
+		values.put("name", "item_" + id);
+		values.put("ownerId", ownerId);
+		values.put("requestId", requestId);
+		return PROJECTION_FACTORY.createProjection(ItemForRequestView.class, values);
+	}
+
+	static CommentView commentView(long id, long itemId, String authorName) {
+		Map<String, Object> values = new HashMap<>();
+		values.put("id", id);
+		values.put("itemId", itemId);
+		values.put("authorName", authorName);
+		values.put("text", "comment_" + id);
+		values.put("created", NOW.minusHours(id));
+		return PROJECTION_FACTORY.createProjection(CommentView.class, values);
+	}
+}
@@ -0,0 +1,104 @@
+package ru.practicum.shareit.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertThroughputBenchmark {
+
+	private static final int OWNERS = 500;
+
+	@Param({"1", "50"})
+	private int batchSize;
+
+	private ConfigurableApplicationContext context;
+
+	private TransactionTemplate transactionTemplate;
+
+	private EntityManager entityManager;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private long sequence;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(ShareItServer.class)
+				.web(WebApplicationType.NONE)
+				.profiles("test")
+				.run("--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+						"--spring.jpa.show-sql=false",
+						"--shareit.scheduling.enabled=false",
+						"--logging.level.root=WARN",
+						"--logging.level.org.springframework.orm.jpa=WARN",
+						"--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN",
+						"--logging.level.org.springframework.transaction=WARN",
+						"--logging.level.org.springframework.transaction.interceptor=WARN");
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+		entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+	}
+
+	@Setup(Level.Iteration)
+	public void clear() {
+		jdbcTemplate.update("delete from items");
+		jdbcTemplate.update("delete from users");
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public int insertOwnersWithItems() {
+		return transactionTemplate.execute(status -> {
+			for (int i = 0; i < OWNERS; i++) {
+				long n = sequence++;
+				User owner = User.builder()
+						.name("owner_" + n)
+						.email("owner_" + n + "@mail.ru")
+						.build();
+				entityManager.persist(owner);
+				entityManager.persist(Item.builder()
+						.name("item_" + n)
+						.description("description_" + n)
+						.isAvailable(true)
+						.owner(owner)
+						.build());
+			}
+			entityManager.flush();
+			entityManager.clear();
+			return OWNERS * 2;
+		});
+	}
+}
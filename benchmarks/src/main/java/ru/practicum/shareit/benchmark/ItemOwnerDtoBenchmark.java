@@ -0,0 +1,59 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dao.CommentView;
+import ru.practicum.shareit.item.dao.ItemView;
+import ru.practicum.shareit.item.dto.ItemOwnerDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemOwnerDtoBenchmark {
+
+	private static final int COMMENTS_PER_ITEM = 3;
+
+	@Param({"100", "1000", "10000"})
+	private int items;
+
+	private List<ItemView> ownerItems;
+
+	private List<CommentView> comments;
+
+	@Setup
+	public void setUp() {
+		ownerItems = new ArrayList<>(items);
+		comments = new ArrayList<>(items * COMMENTS_PER_ITEM);
+		long commentId = 1;
+		for (long id = 1; id <= items; id++) {
+			ownerItems.add(id % 2 == 0
+					? Fixtures.itemView(id, null, Fixtures.NOW.minusDays(1), Fixtures.NOW.plusDays(1))
+					: Fixtures.itemView(id, null));
+			for (int i = 0; i < COMMENTS_PER_ITEM; i++) {
+				comments.add(Fixtures.commentView(commentId++, id, "user_2"));
+			}
+		}
+	}
+
+	@Benchmark
+	public List<ItemOwnerDto> toItemOwnerDtos() {
+		return ItemMapper.toItemOwnerDtos(ownerItems, comments);
+	}
+}
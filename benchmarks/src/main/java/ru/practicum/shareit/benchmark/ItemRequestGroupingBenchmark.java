@@ -0,0 +1,50 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dao.ItemForRequestView;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemRequestGroupingBenchmark {
+
+	private static final int ITEMS_PER_REQUEST = 5;
+
+	@Param({"100", "1000", "10000"})
+	private int items;
+
+	private List<ItemForRequestView> source;
+
+	@Setup
+	public void setUp() {
+		int requests = Math.max(1, items / ITEMS_PER_REQUEST);
+		source = new ArrayList<>(items);
+		for (long id = 1; id <= items; id++) {
+			source.add(Fixtures.itemForRequestView(id, 1, id % requests + 1));
+		}
+	}
+
+	@Benchmark
+	public Map<Long, List<ItemForRequestView>> groupByRequestId() {
+		return ItemMapper.groupByRequestId(source);
+	}
+}
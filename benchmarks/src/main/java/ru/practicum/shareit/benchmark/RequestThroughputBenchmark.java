@@ -0,0 +1,99 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@Fork(1)
+public class RequestThroughputBenchmark {
+
+	private static final int TOMCAT_THREADS = 32;
+
+	@Param({"false", "true"})
+	private boolean virtualThreads;
+
+	private ConfigurableApplicationContext context;
+
+	private HttpClient httpClient;
+
+	private HttpRequest itemRequest;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(ShareItServer.class)
+				.web(WebApplicationType.SERVLET)
+				.profiles("test")
+				.run("--server.port=0",
+						"--server.tomcat.threads.max=" + TOMCAT_THREADS,
+						"--spring.threads.virtual.enabled=" + virtualThreads,
+						"--spring.jpa.show-sql=false",
+						"--shareit.scheduling.enabled=false",
+						"--logging.level.root=WARN",
+						"--logging.level.org.springframework.orm.jpa=WARN",
+						"--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN",
+						"--logging.level.org.springframework.transaction=WARN",
+						"--logging.level.org.springframework.transaction.interceptor=WARN");
+
+		User owner = context.getBean(UserRepository.class)
+				.save(User.builder().name("owner").email("owner@mail.ru").build());
+		Item item = context.getBean(ItemRepository.class).save(Item.builder()
+				.name("item")
+				.description("description")
+				.isAvailable(true)
+				.owner(owner)
+				.build());
+
+		String port = context.getEnvironment().getProperty("local.server.port");
+		httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+		itemRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/items/" + item.getId()))
+				.header("X-Sharer-User-Id", String.valueOf(owner.getId()))
+				.GET()
+				.build();
+	}
+
+	@TearDown
+	public void tearDown() {
+		httpClient.close();
+		context.close();
+	}
+
+	@Benchmark
+	public int getItem() throws IOException, InterruptedException {
+		return httpClient.send(itemRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+}
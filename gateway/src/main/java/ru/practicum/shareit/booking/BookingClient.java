@@ -1,56 +1,96 @@
 package ru.practicum.shareit.booking;
 
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayResponseCache;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingClient extends BaseClient {
 
 	private static final String API_PREFIX = "/bookings";
 
+	private final ObjectMapper objectMapper;
+
 	@Autowired
-	public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+	public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder, ClientHttpRequestFactory requestFactory,
+						 GatewayResponseCache responseCache, ObjectMapper objectMapper) {
 		super(
 				builder
 						.uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-						.requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-						.build()
+						.requestFactory(() -> requestFactory)
+						.build(),
+				responseCache,
+				API_PREFIX
 		);
+		this.objectMapper = objectMapper;
 	}
 
-	public ResponseEntity<Object> getBookings(long userId, BookingState state, Integer from, Integer size) {
-		Map<String, Object> parameters = Map.of(
-				"state", state.name(),
-				"from", from,
-				"size", size
-		);
-		return get("?state={state}&from={from}&size={size}", userId, parameters);
+	public ResponseEntity<Object> getBookings(long userId, BookingState state, Integer from, Integer size, String cursor) {
+		return getPage("", userId, state, from, size, cursor);
 	}
 
 	public ResponseEntity<Object> bookItem(long userId, BookItemRequestDto requestDto) {
-		return post("", userId, requestDto);
+		ResponseEntity<Object> response = post("", userId, requestDto);
+		if (response.getStatusCode().is2xxSuccessful()) {
+			evictCached("/items/" + requestDto.getItemId());
+		}
+		return response;
 	}
 
 	public ResponseEntity<Object> getBooking(long userId, Long bookingId) {
 		return get("/" + bookingId, userId);
 	}
 
-	public ResponseEntity<Object> getBookingsByItemOwnerIdAndState(long userId, BookingState bookingState) {
-		return get("/owner?state={state}", userId, Map.of("state", bookingState));
+	public ResponseEntity<Object> getBookingsByItemOwnerIdAndState(long userId, BookingState bookingState, Integer from, Integer size, String cursor) {
+		return getPage("/owner", userId, bookingState, from, size, cursor);
 	}
 
 	public ResponseEntity<Object> approveBooking(long bookingId, long userId, boolean approved) {
-		return patch("/" + bookingId + "?approved={approved}", userId, Map.of("approved", approved), null);
+		ResponseEntity<Object> response = patch("/" + bookingId + "?approved={approved}", userId, Map.of("approved", approved), null);
+		if (response.getStatusCode().is2xxSuccessful() && response.getBody() instanceof byte[] body) {
+			evictBookedItem(body);
+		}
+		return response;
+	}
+
+	private void evictBookedItem(byte[] booking) {
+		JsonNode itemId;
+		try {
+			itemId = objectMapper.readTree(booking).path("item").path("id");
+		} catch (IOException e) {
+			return;
+		}
+		if (itemId.canConvertToLong()) {
+			evictCached("/items/" + itemId.asLong());
+		}
+	}
+
+	private ResponseEntity<Object> getPage(String path, long userId, BookingState state, Integer from, Integer size, String cursor) {
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("state", state.name());
+		parameters.put("from", from);
+		parameters.put("size", size);
+		if (cursor == null) {
+			return get(path + "?state={state}&from={from}&size={size}", userId, parameters);
+		}
+		parameters.put("cursor", cursor);
+		return get(path + "?state={state}&from={from}&size={size}&cursor={cursor}", userId, parameters);
 	}
 }
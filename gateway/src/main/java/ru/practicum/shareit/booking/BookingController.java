@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -27,6 +28,7 @@ import ru.practicum.shareit.booking.dto.BookingState;
 @RequiredArgsConstructor
 @Slf4j
 @Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingController {
 
 	private final BookingClient bookingClient;
@@ -35,12 +37,13 @@ public class BookingController {
 	public ResponseEntity<Object> getBookings(@RequestHeader("X-Sharer-User-Id") long userId,
 											  @RequestParam(name = "state", defaultValue = "all") String stateParam,
 											  @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-											  @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+											  @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+											  @RequestParam(name = "cursor", required = false) String cursor) {
 
 		BookingState state = BookingState.from(stateParam)
 				.orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-		log.info("Get booking with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-		return bookingClient.getBookings(userId, state, from, size);
+		log.info("Get booking with state {}, userId={}, from={}, size={}, cursor={}", stateParam, userId, from, size, cursor);
+		return bookingClient.getBookings(userId, state, from, size, cursor);
 	}
 
 	@PostMapping
@@ -62,11 +65,14 @@ public class BookingController {
 
 	@GetMapping("/owner")
 	public ResponseEntity<Object> getBookingsByItemOwner(@RequestHeader("X-Sharer-User-Id") long userId,
-														 @RequestParam(name = "state", required = false, defaultValue = "all") String stateParam) {
-		log.info("Get booking by item owner: userId={}, state={}", userId, stateParam);
+														 @RequestParam(name = "state", required = false, defaultValue = "all") String stateParam,
+														 @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+														 @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+														 @RequestParam(name = "cursor", required = false) String cursor) {
+		log.info("Get booking by item owner: userId={}, state={}, from={}, size={}, cursor={}", userId, stateParam, from, size, cursor);
 		BookingState state = BookingState.from(stateParam)
 				.orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-		return bookingClient.getBookingsByItemOwnerIdAndState(userId, state);
+		return bookingClient.getBookingsByItemOwnerIdAndState(userId, state, from, size, cursor);
 	}
 
 	@PatchMapping("/{bookingId}")
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.booking;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingClient extends ReactiveBaseClient {
+
+	private static final String API_PREFIX = "/bookings";
+
+	@Autowired
+	public ReactiveBookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder, ClientHttpConnector connector) {
+		super(
+				builder
+						.clientConnector(connector)
+						.baseUrl(serverUrl + API_PREFIX)
+						.build()
+		);
+	}
+
+	public Mono<ResponseEntity<Object>> getBookings(long userId, BookingState state, Integer from, Integer size, String cursor) {
+		return getPage("", userId, state, from, size, cursor);
+	}
+
+	public Mono<ResponseEntity<Object>> bookItem(long userId, BookItemRequestDto requestDto) {
+		return post("", userId, requestDto);
+	}
+
+	public Mono<ResponseEntity<Object>> getBooking(long userId, Long bookingId) {
+		return get("/" + bookingId, userId);
+	}
+
+	public Mono<ResponseEntity<Object>> getBookingsByItemOwnerIdAndState(long userId, BookingState bookingState, Integer from, Integer size, String cursor) {
+		return getPage("/owner", userId, bookingState, from, size, cursor);
+	}
+
+	public Mono<ResponseEntity<Object>> approveBooking(long bookingId, long userId, boolean approved) {
+		return patch("/" + bookingId + "?approved={approved}", userId, Map.of("approved", approved), null);
+	}
+
+	private Mono<ResponseEntity<Object>> getPage(String path, long userId, BookingState state, Integer from, Integer size, String cursor) {
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("state", state.name());
+		parameters.put("from", from);
+		parameters.put("size", size);
+		if (cursor == null) {
+			return get(path + "?state={state}&from={from}&size={size}", userId, parameters);
+		}
+		parameters.put("cursor", cursor);
+		return get(path + "?state={state}&from={from}&size={size}&cursor={cursor}", userId, parameters);
+	}
+}
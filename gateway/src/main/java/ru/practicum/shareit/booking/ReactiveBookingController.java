@@ -0,0 +1,85 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+
+@Controller
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingController {
+
+	private final ReactiveBookingClient bookingClient;
+
+	@GetMapping
+	public Mono<ResponseEntity<Object>> getBookings(@RequestHeader("X-Sharer-User-Id") long userId,
+											  @RequestParam(name = "state", defaultValue = "all") String stateParam,
+											  @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+											  @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+											  @RequestParam(name = "cursor", required = false) String cursor) {
+
+		BookingState state = BookingState.from(stateParam)
+				.orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
+		log.info("Get booking with state {}, userId={}, from={}, size={}, cursor={}", stateParam, userId, from, size, cursor);
+		return bookingClient.getBookings(userId, state, from, size, cursor);
+	}
+
+	@PostMapping
+	@ResponseStatus(HttpStatus.CREATED)
+	public Mono<ResponseEntity<Object>> bookItem(@RequestHeader("X-Sharer-User-Id") long userId,
+										   @RequestBody @Valid BookItemRequestDto requestDto) {
+
+		log.info("Creating booking: userId={}, bookingData={}", userId, requestDto);
+		return bookingClient.bookItem(userId, requestDto);
+	}
+
+	@GetMapping("/{bookingId}")
+	public Mono<ResponseEntity<Object>> getBooking(@RequestHeader("X-Sharer-User-Id") long userId,
+											 @PathVariable Long bookingId) {
+
+		log.info("Get booking: userId={}, bookingId={}", userId, bookingId);
+		return bookingClient.getBooking(userId, bookingId);
+	}
+
+	@GetMapping("/owner")
+	public Mono<ResponseEntity<Object>> getBookingsByItemOwner(@RequestHeader("X-Sharer-User-Id") long userId,
+														 @RequestParam(name = "state", required = false, defaultValue = "all") String stateParam,
+														 @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+														 @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+														 @RequestParam(name = "cursor", required = false) String cursor) {
+		log.info("Get booking by item owner: userId={}, state={}, from={}, size={}, cursor={}", userId, stateParam, from, size, cursor);
+		BookingState state = BookingState.from(stateParam)
+				.orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
+		return bookingClient.getBookingsByItemOwnerIdAndState(userId, state, from, size, cursor);
+	}
+
+	@PatchMapping("/{bookingId}")
+	public Mono<ResponseEntity<Object>> update(@RequestHeader("X-Sharer-User-Id") long userId,
+										 @PathVariable Long bookingId,
+										 @RequestParam Boolean approved) {
+		log.info("Approve booking: userId={}, bookingId={}, approved={}", userId, bookingId, approved);
+		return bookingClient.approveBooking(bookingId, userId, approved);
+	}
+}
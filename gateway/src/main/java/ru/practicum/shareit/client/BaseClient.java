@@ -6,6 +6,7 @@ import java.util.Map;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
@@ -15,8 +16,19 @@ import org.springframework.web.client.RestTemplate;
 public class BaseClient {
     protected final RestTemplate rest;
 
+    @Nullable
+    private final GatewayResponseCache responseCache;
+
+    private final String resourcePrefix;
+
     public BaseClient(RestTemplate rest) {
+        this(rest, null, "");
+    }
+
+    public BaseClient(RestTemplate rest, @Nullable GatewayResponseCache responseCache, String resourcePrefix) {
         this.rest = rest;
+        this.responseCache = responseCache;
+        this.resourcePrefix = resourcePrefix;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -31,6 +43,42 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
+    protected ResponseEntity<Object> getCached(String path, @Nullable Long userId) {
+        if (responseCache == null) {
+            return get(path, userId, null);
+        }
+        String resource = resourcePrefix + path;
+        GatewayResponseCache.Entry cached = responseCache.get(resource, userId);
+        if (cached != null && responseCache.isFresh(cached)) {
+            return cached.toResponse();
+        }
+
+        HttpHeaders headers = defaultHeaders(userId);
+        if (cached != null) {
+            headers.setIfNoneMatch(cached.getEtag());
+        }
+        ResponseEntity<byte[]> shareitServerResponse;
+        try {
+            shareitServerResponse = rest.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+        } catch (HttpStatusCodeException e) {
+            responseCache.invalidate(resource, userId);
+            return GatewayResponses.passThrough(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
+        }
+        if (cached != null && shareitServerResponse.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            responseCache.revalidated(cached);
+            return cached.toResponse();
+        }
+        responseCache.put(resource, userId, shareitServerResponse);
+        return GatewayResponses.passThrough(shareitServerResponse.getStatusCode(), shareitServerResponse.getHeaders(),
+                shareitServerResponse.getBody());
+    }
+
+    protected void evictCached(String resource) {
+        if (responseCache != null) {
+            responseCache.evict(resource);
+        }
+    }
+
     protected <T> ResponseEntity<Object> post(String path, T body) {
         return post(path, null, null, body);
     }
@@ -82,17 +130,27 @@ public class BaseClient {
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
 
-        ResponseEntity<Object> shareitServerResponse;
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
             if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
             } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
             }
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return GatewayResponses.passThrough(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
+        } finally {
+            if (method != HttpMethod.GET) {
+                evictCached(resourcePrefix + resourcePath(path));
+            }
         }
-        return prepareGatewayResponse(shareitServerResponse);
+        return GatewayResponses.passThrough(shareitServerResponse.getStatusCode(), shareitServerResponse.getHeaders(),
+                shareitServerResponse.getBody());
+    }
+
+    private static String resourcePath(String path) {
+        int end = path.indexOf('/', 1);
+        return end < 0 ? path : path.substring(0, end);
     }
 
     private HttpHeaders defaultHeaders(Long userId) {
@@ -104,18 +162,4 @@ public class BaseClient {
         }
         return headers;
     }
-
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
-
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
-
-        if (response.hasBody()) {
-            return responseBuilder.body(response.getBody());
-        }
-
-        return responseBuilder.build();
-    }
 }
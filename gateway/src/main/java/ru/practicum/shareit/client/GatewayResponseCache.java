@@ -0,0 +1,93 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GatewayResponseCache {
+
+	private final Cache<Key, Entry> cache;
+
+	private final boolean enabled;
+
+	private final long freshForNanos;
+
+	public GatewayResponseCache(ResponseCacheProperties properties) {
+		this.enabled = properties.isEnabled();
+		this.freshForNanos = properties.getFreshFor().toNanos();
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(properties.getMaximumSize())
+				.expireAfterWrite(properties.getTimeToLive())
+				.build();
+	}
+
+	@Nullable
+	public Entry get(String resource, @Nullable Long userId) {
+		return enabled ? cache.getIfPresent(new Key(resource, userId)) : null;
+	}
+
+	public void put(String resource, @Nullable Long userId, ResponseEntity<byte[]> response) {
+		String etag = response.getHeaders().getETag();
+		if (!enabled || response.getStatusCode() != HttpStatus.OK || etag == null) {
+			return;
+		}
+		cache.put(new Key(resource, userId), new Entry(etag, response.getHeaders(), response.getBody(), System.nanoTime()));
+	}
+
+	public boolean isFresh(Entry entry) {
+		return System.nanoTime() - entry.validatedAt < freshForNanos;
+	}
+
+	public void revalidated(Entry entry) {
+		entry.validatedAt = System.nanoTime();
+	}
+
+	public void invalidate(String resource, @Nullable Long userId) {
+		cache.invalidate(new Key(resource, userId));
+	}
+
+	public void evict(String resource) {
+		cache.asMap().keySet().removeIf(key -> key.resource().equals(resource));
+	}
+
+	public long size() {
+		cache.cleanUp();
+		return cache.estimatedSize();
+	}
+
+	private record Key(String resource, @Nullable Long userId) {
+	}
+
+	public static final class Entry {
+
+		private final String etag;
+
+		private final HttpHeaders headers;
+
+		private final byte[] body;
+
+		private volatile long validatedAt;
+
+		private Entry(String etag, HttpHeaders headers, byte[] body, long validatedAt) {
+			this.etag = etag;
+			this.headers = headers;
+			this.body = body;
+			this.validatedAt = validatedAt;
+		}
+
+		public String getEtag() {
+			return etag;
+		}
+
+		public ResponseEntity<Object> toResponse() {
+			return GatewayResponses.passThrough(HttpStatus.OK, headers, body);
+		}
+	}
+}
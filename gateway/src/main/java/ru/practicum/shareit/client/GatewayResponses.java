@@ -0,0 +1,39 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+
+import java.util.Set;
+
+final class GatewayResponses {
+
+	private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+			HttpHeaders.CONNECTION.toLowerCase(),
+			HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+			HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+			"keep-alive");
+
+	private GatewayResponses() {
+	}
+
+	static ResponseEntity<Object> passThrough(HttpStatusCode status, @Nullable HttpHeaders headers, @Nullable byte[] body) {
+		ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(status);
+		if (headers != null) {
+			if (status.is2xxSuccessful()) {
+				headers.forEach((name, values) -> {
+					if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+						responseBuilder.header(name, values.toArray(String[]::new));
+					}
+				});
+			} else if (headers.getContentType() != null) {
+				responseBuilder.contentType(headers.getContentType());
+			}
+		}
+		if (body != null && body.length > 0) {
+			return responseBuilder.body(body);
+		}
+		return responseBuilder.build();
+	}
+}
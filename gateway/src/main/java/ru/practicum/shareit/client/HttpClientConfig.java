@@ -0,0 +1,78 @@
+package ru.practicum.shareit.client;
+
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties({ServerHttpClientProperties.class, ResponseCacheProperties.class})
+public class HttpClientConfig {
+
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager serverConnectionManager(ServerHttpClientProperties properties) {
+		return PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(properties.getMaxTotal())
+				.setMaxConnPerRoute(properties.getMaxPerRoute())
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(toTimeout(properties.getConnectTimeout()))
+						.setSocketTimeout(toTimeout(properties.getResponseTimeout()))
+						.setValidateAfterInactivity(toTimeValue(properties.getValidateAfterInactivity()))
+						.setTimeToLive(toTimeValue(properties.getTimeToLive()))
+						.build())
+				.build();
+	}
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient serverHttpClient(PoolingHttpClientConnectionManager serverConnectionManager,
+												ServerHttpClientProperties properties) {
+		return HttpClients.custom()
+				.setConnectionManager(serverConnectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(toTimeout(properties.getConnectionRequestTimeout()))
+						.setResponseTimeout(toTimeout(properties.getResponseTimeout()))
+						.build())
+				.setKeepAliveStrategy(keepAliveStrategy(toTimeValue(properties.getKeepAlive())))
+				.evictExpiredConnections()
+				.evictIdleConnections(toTimeValue(properties.getMaxIdleTime()))
+				.build();
+	}
+
+	@Bean
+	public ClientHttpRequestFactory serverRequestFactory(CloseableHttpClient serverHttpClient) {
+		return new HttpComponentsClientHttpRequestFactory(serverHttpClient);
+	}
+
+	static ConnectionKeepAliveStrategy keepAliveStrategy(TimeValue maxKeepAlive) {
+		return (response, context) -> {
+			TimeValue keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			if (TimeValue.isPositive(keepAlive) && keepAlive.compareTo(maxKeepAlive) < 0) {
+				return keepAlive;
+			}
+			return maxKeepAlive;
+		};
+	}
+
+	private static Timeout toTimeout(Duration duration) {
+		return Timeout.ofMilliseconds(duration.toMillis());
+	}
+
+	private static TimeValue toTimeValue(Duration duration) {
+		return TimeValue.ofMilliseconds(duration.toMillis());
+	}
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.lang.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class QueryPath {
+
+	private final StringBuilder path;
+
+	private final Map<String, Object> parameters = new HashMap<>();
+
+	private QueryPath(String path) {
+		this.path = new StringBuilder(path);
+	}
+
+	public static QueryPath of(String path) {
+		return new QueryPath(path);
+	}
+
+	public QueryPath param(String name, Object value) {
+		path.append(parameters.isEmpty() ? '?' : '&').append(name).append("={").append(name).append('}');
+		parameters.put(name, value);
+		return this;
+	}
+
+	public QueryPath paramIfPresent(String name, @Nullable Object value) {
+		return value == null ? this : param(name, value);
+	}
+
+	public String path() {
+		return path.toString();
+	}
+
+	public Map<String, Object> parameters() {
+		return parameters;
+	}
+}
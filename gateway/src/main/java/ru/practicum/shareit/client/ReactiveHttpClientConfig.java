@@ -0,0 +1,37 @@
+package ru.practicum.shareit.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(ServerHttpClientProperties.class)
+public class ReactiveHttpClientConfig {
+
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider serverConnectionProvider(ServerHttpClientProperties properties) {
+		return ConnectionProvider.builder("shareit-server")
+				.maxConnections(properties.getMaxPerRoute())
+				.pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+				.maxIdleTime(properties.getMaxIdleTime())
+				.maxLifeTime(properties.getTimeToLive())
+				.evictInBackground(properties.getMaxIdleTime())
+				.build();
+	}
+
+	@Bean
+	public ClientHttpConnector serverClientHttpConnector(ConnectionProvider serverConnectionProvider,
+														 ServerHttpClientProperties properties) {
+		return new ReactorClientHttpConnector(HttpClient.create(serverConnectionProvider)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+				.responseTimeout(properties.getResponseTimeout())
+				.keepAlive(true));
+	}
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shareit-server.response-cache")
+public class ResponseCacheProperties {
+
+	private boolean enabled = true;
+
+	private long maximumSize = 10_000;
+
+	private Duration timeToLive = Duration.ofMinutes(10);
+
+	private Duration freshFor = Duration.ofSeconds(5);
+}
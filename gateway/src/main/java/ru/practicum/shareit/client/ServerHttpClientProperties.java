@@ -0,0 +1,29 @@
+package ru.practicum.shareit.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "shareit-server.http-client")
+public class ServerHttpClientProperties {
+
+	private int maxTotal = 200;
+
+	private int maxPerRoute = 100;
+
+	private Duration connectTimeout = Duration.ofSeconds(2);
+
+	private Duration responseTimeout = Duration.ofSeconds(30);
+
+	private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+	private Duration keepAlive = Duration.ofSeconds(15);
+
+	private Duration maxIdleTime = Duration.ofSeconds(10);
+
+	private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+	private Duration timeToLive = Duration.ofMinutes(5);
+}
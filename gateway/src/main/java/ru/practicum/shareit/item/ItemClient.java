@@ -2,47 +2,82 @@ package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.QueryPath;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CreateItemRequest;
+import ru.practicum.shareit.item.dto.CreateItemsRequest;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemClient extends BaseClient {
 
 	private static final String API_PREFIX = "/items";
 
 	@Autowired
-	public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+	public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder, ClientHttpRequestFactory requestFactory, GatewayResponseCache responseCache) {
 		super(
 				builder
 						.uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-						.requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-						.build()
+						.requestFactory(() -> requestFactory)
+						.build(),
+				responseCache,
+				API_PREFIX
 		);
 	}
 
 	public ResponseEntity<Object> getItem(long itemId, long userId) {
-		return get("/" + itemId, userId);
+		return getCached("/" + itemId, userId);
 	}
 
 	public ResponseEntity<Object> getItemsByUser(long userId) {
 		return get("", userId);
 	}
 
-	public ResponseEntity<Object> search(long userId, String text) {
-		return get("/search?text={text}", userId, Map.of("text", text));
+	public ResponseEntity<Object> getAvailability(long itemId, long userId, LocalDateTime from, LocalDateTime to) {
+		return get("/" + itemId + "/availability?from={from}&to={to}", userId, Map.of("from", from, "to", to));
+	}
+
+	public ResponseEntity<Object> search(long userId, String text, Integer from, Integer size, LocalDateTime start, LocalDateTime end) {
+		QueryPath query = QueryPath.of("/search")
+				.param("text", text)
+				.param("from", from)
+				.param("size", size)
+				.paramIfPresent("start", start)
+				.paramIfPresent("end", end);
+		return get(query.path(), userId, query.parameters());
 	}
 
 	public ResponseEntity<Object> addItem(CreateItemRequest createItemRequest, long userId) {
-		return post("", userId, createItemRequest);
+		ResponseEntity<Object> response = post("", userId, createItemRequest);
+		if (createItemRequest.getRequestId() != null) {
+			evictCached("/requests/" + createItemRequest.getRequestId());
+		}
+		return response;
+	}
+
+	public ResponseEntity<Object> addItems(CreateItemsRequest createItemsRequest, long userId) {
+		ResponseEntity<Object> response = post("/batch", userId, createItemsRequest);
+		if (response.getStatusCode().is2xxSuccessful()) {
+			createItemsRequest.getItems().stream()
+					.map(CreateItemRequest::getRequestId)
+					.filter(Objects::nonNull)
+					.distinct()
+					.forEach(requestId -> evictCached("/requests/" + requestId));
+		}
+		return response;
 	}
 
 	public ResponseEntity<Object> addComment(CommentDto commentDto, long itemId, long userId) {
@@ -1,8 +1,12 @@
 package ru.practicum.shareit.item;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -19,13 +23,18 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CreateItemRequest;
+import ru.practicum.shareit.item.dto.CreateItemsRequest;
+import ru.practicum.shareit.item.dto.SearchPeriod;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 
+import java.time.LocalDateTime;
+
 @Controller
 @RequestMapping(path = "/items")
 @RequiredArgsConstructor
 @Slf4j
 @Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemController {
 
 	private final ItemClient itemClient;
@@ -43,11 +52,23 @@ public class ItemController {
 		return itemClient.getItem(itemId, userId);
 	}
 
+	@GetMapping("/{itemId}/availability")
+	public ResponseEntity<Object> getAvailability(@RequestHeader("X-Sharer-User-Id") long userId,
+									  @PathVariable long itemId,
+									  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+									  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+		log.info("Get item availability: userId={}, itemId={}, from={}, to={}", userId, itemId, from, to);
+		return itemClient.getAvailability(itemId, userId, from, to);
+	}
+
 	@GetMapping("/search")
 	public ResponseEntity<Object> search(@RequestHeader("X-Sharer-User-Id") long userId,
-									  @RequestParam("text") String text) {
-		log.info("Search item: userId={}, text={}", userId, text);
-		return itemClient.search(userId, text);
+									  @RequestParam("text") String text,
+									  @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+									  @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+									  @Valid SearchPeriod period) {
+		log.info("Search item: userId={}, text={}, from={}, size={}, period={}", userId, text, from, size, period);
+		return itemClient.search(userId, text, from, size, period.getStart(), period.getEnd());
 	}
 
 	@PostMapping
@@ -58,6 +79,14 @@ public class ItemController {
 		return itemClient.addItem(createItemRequest, userId);
 	}
 
+	@PostMapping("/batch")
+	@ResponseStatus(HttpStatus.CREATED)
+	public ResponseEntity<Object> createAll(@RequestHeader("X-Sharer-User-Id") long userId,
+											@Valid @RequestBody CreateItemsRequest createItemsRequest) {
+		log.info("Add items: userId={}, count={}", userId, createItemsRequest.getItems().size());
+		return itemClient.addItems(createItemsRequest, userId);
+	}
+
 	@PostMapping("/{itemId}/comment")
 	@ResponseStatus(HttpStatus.CREATED)
 	public ResponseEntity<Object> createComment(@RequestHeader("X-Sharer-User-Id") long userId,
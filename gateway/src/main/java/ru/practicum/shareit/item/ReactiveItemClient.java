@@ -0,0 +1,78 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.QueryPath;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.CreateItemRequest;
+import ru.practicum.shareit.item.dto.CreateItemsRequest;
+import ru.practicum.shareit.item.dto.UpdateItemRequest;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemClient extends ReactiveBaseClient {
+
+	private static final String API_PREFIX = "/items";
+
+	@Autowired
+	public ReactiveItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder, ClientHttpConnector connector) {
+		super(
+				builder
+						.clientConnector(connector)
+						.baseUrl(serverUrl + API_PREFIX)
+						.build()
+		);
+	}
+
+	public Mono<ResponseEntity<Object>> getItem(long itemId, long userId) {
+		return get("/" + itemId, userId);
+	}
+
+	public Mono<ResponseEntity<Object>> getItemsByUser(long userId) {
+		return get("", userId);
+	}
+
+	public Mono<ResponseEntity<Object>> getAvailability(long itemId, long userId, LocalDateTime from, LocalDateTime to) {
+		return get("/" + itemId + "/availability?from={from}&to={to}", userId, Map.of("from", from, "to", to));
+	}
+
+	public Mono<ResponseEntity<Object>> search(long userId, String text, Integer from, Integer size, LocalDateTime start, LocalDateTime end) {
+		QueryPath query = QueryPath.of("/search")
+				.param("text", text)
+				.param("from", from)
+				.param("size", size)
+				.paramIfPresent("start", start)
+				.paramIfPresent("end", end);
+		return get(query.path(), userId, query.parameters());
+	}
+
+	public Mono<ResponseEntity<Object>> addItem(CreateItemRequest createItemRequest, long userId) {
+		return post("", userId, createItemRequest);
+	}
+
+	public Mono<ResponseEntity<Object>> addItems(CreateItemsRequest createItemsRequest, long userId) {
+		return post("/batch", userId, createItemsRequest);
+	}
+
+	public Mono<ResponseEntity<Object>> addComment(CommentDto commentDto, long itemId, long userId) {
+		return post("/" + itemId + "/comment", userId, commentDto);
+	}
+
+	public Mono<ResponseEntity<Object>> updateItem(long itemId, UpdateItemRequest updateItem, long userId) {
+		return patch("/" + itemId, userId, updateItem);
+	}
+
+	public Mono<ResponseEntity<Object>> deleteItem(long itemId, long userId) {
+		return delete("/" + itemId, userId);
+	}
+}
@@ -0,0 +1,114 @@
+package ru.practicum.shareit.item;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.CreateItemRequest;
+import ru.practicum.shareit.item.dto.CreateItemsRequest;
+import ru.practicum.shareit.item.dto.SearchPeriod;
+import ru.practicum.shareit.item.dto.UpdateItemRequest;
+
+import java.time.LocalDateTime;
+
+@Controller
+@RequestMapping(path = "/items")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemController {
+
+	private final ReactiveItemClient itemClient;
+
+	@GetMapping
+	public Mono<ResponseEntity<Object>> get(@RequestHeader("X-Sharer-User-Id") long userId) {
+		log.info("Get items: userId={}", userId);
+		return itemClient.getItemsByUser(userId);
+	}
+
+	@GetMapping("/{itemId}")
+	public Mono<ResponseEntity<Object>> get(@RequestHeader("X-Sharer-User-Id") long userId,
+									  @PathVariable long itemId) {
+		log.info("Get item: userId={}, itemId={}", userId, itemId);
+		return itemClient.getItem(itemId, userId);
+	}
+
+	@GetMapping("/{itemId}/availability")
+	public Mono<ResponseEntity<Object>> getAvailability(@RequestHeader("X-Sharer-User-Id") long userId,
+									  @PathVariable long itemId,
+									  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+									  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+		log.info("Get item availability: userId={}, itemId={}, from={}, to={}", userId, itemId, from, to);
+		return itemClient.getAvailability(itemId, userId, from, to);
+	}
+
+	@GetMapping("/search")
+	public Mono<ResponseEntity<Object>> search(@RequestHeader("X-Sharer-User-Id") long userId,
+									  @RequestParam("text") String text,
+									  @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+									  @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+									  @Valid SearchPeriod period) {
+		log.info("Search item: userId={}, text={}, from={}, size={}, period={}", userId, text, from, size, period);
+		return itemClient.search(userId, text, from, size, period.getStart(), period.getEnd());
+	}
+
+	@PostMapping
+	@ResponseStatus(HttpStatus.CREATED)
+	public Mono<ResponseEntity<Object>> create(@RequestHeader("X-Sharer-User-Id") long userId,
+						  @Valid @RequestBody CreateItemRequest createItemRequest) {
+		log.info("Add item: userId={}, itemData={}", userId, createItemRequest);
+		return itemClient.addItem(createItemRequest, userId);
+	}
+
+	@PostMapping("/batch")
+	@ResponseStatus(HttpStatus.CREATED)
+	public Mono<ResponseEntity<Object>> createAll(@RequestHeader("X-Sharer-User-Id") long userId,
+												  @Valid @RequestBody CreateItemsRequest createItemsRequest) {
+		log.info("Add items: userId={}, count={}", userId, createItemsRequest.getItems().size());
+		return itemClient.addItems(createItemsRequest, userId);
+	}
+
+	@PostMapping("/{itemId}/comment")
+	@ResponseStatus(HttpStatus.CREATED)
+	public Mono<ResponseEntity<Object>> createComment(@RequestHeader("X-Sharer-User-Id") long userId,
+									@PathVariable long itemId,
+									@Valid @RequestBody CommentDto commentDto) {
+		log.info("Add comment: userId={}, itemId={}, commentData={}", userId, itemId, commentDto);
+		return itemClient.addComment(commentDto, itemId, userId);
+	}
+
+	@PatchMapping("/{itemId}")
+	public Mono<ResponseEntity<Object>> update(@RequestHeader("X-Sharer-User-Id") long userId,
+						  @PathVariable long itemId,
+						  @Valid @RequestBody UpdateItemRequest updateItem) {
+		log.info("Update item: userId={}, itemId={}, itemData={}", userId, itemId, updateItem);
+		return itemClient.updateItem(itemId, updateItem, userId);
+	}
+
+	@DeleteMapping("/{itemId}")
+	public Mono<ResponseEntity<Object>> delete(@RequestHeader("X-Sharer-User-Id") long userId,
+					   @PathVariable long itemId) {
+		log.info("Delete item: userId={}, itemId={}", userId, itemId);
+		return itemClient.deleteItem(itemId, userId);
+	}
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.item.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateItemsRequest {
+
+	@NotEmpty
+	@Size(max = 100_000)
+	private List<@Valid CreateItemRequest> items;
+}
@@ -0,0 +1,31 @@
+package ru.practicum.shareit.item.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.FutureOrPresent;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+public class SearchPeriod {
+
+	@FutureOrPresent
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime start;
+
+	@Future
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private LocalDateTime end;
+
+	@AssertTrue(message = "Для поиска свободных вещей нужно указать и начало, и окончание периода")
+	public boolean isComplete() {
+		return (start == null) == (end == null);
+	}
+
+	@AssertTrue(message = "Дата начала периода должна быть раньше даты окончания")
+	public boolean isOrdered() {
+		return start == null || end == null || start.isBefore(end);
+	}
+}
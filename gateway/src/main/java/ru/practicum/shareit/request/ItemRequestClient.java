@@ -2,26 +2,33 @@ package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayResponseCache;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
+import java.util.Map;
+
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemRequestClient extends BaseClient {
 
 	private static final String API_PREFIX = "/requests";
 
 	@Autowired
-	public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+	public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder, ClientHttpRequestFactory requestFactory, GatewayResponseCache responseCache) {
 		super(
 				builder
 						.uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-						.requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-						.build()
+						.requestFactory(() -> requestFactory)
+						.build(),
+				responseCache,
+				API_PREFIX
 		);
 	}
 
@@ -30,11 +37,14 @@ public class ItemRequestClient extends BaseClient {
 	}
 
 	public ResponseEntity<Object> getItemRequest(long requestId, long userId) {
-		return get("/" + requestId, userId);
+		return getCached("/" + requestId, userId);
 	}
 
-	public ResponseEntity<Object> getItemRequestsFromOtherUsers(long userId) {
-		return get("/all", userId);
+	public ResponseEntity<Object> getItemRequestsFromOtherUsers(long userId, Integer size, String cursor) {
+		if (cursor == null) {
+			return get("/all?size={size}", userId, Map.of("size", size));
+		}
+		return get("/all?size={size}&cursor={cursor}", userId, Map.of("size", size, "cursor", cursor));
 	}
 
 	public ResponseEntity<Object> addItemRequest(ItemRequestDto itemRequestDto, long userId) {
@@ -1,8 +1,10 @@
 package ru.practicum.shareit.request;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
@@ -21,6 +24,7 @@ import ru.practicum.shareit.request.dto.ItemRequestDto;
 @RequiredArgsConstructor
 @Slf4j
 @Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemRequestController {
 
 	private final ItemRequestClient itemRequestClient;
@@ -39,9 +43,11 @@ public class ItemRequestController {
 	}
 
 	@GetMapping("/all")
-	public ResponseEntity<Object> getRequestsFromOtherUsers(@RequestHeader("X-Sharer-User-Id") long userId) {
-		log.info("Get request from other users: userId={}", userId);
-		return itemRequestClient.getItemRequestsFromOtherUsers(userId);
+	public ResponseEntity<Object> getRequestsFromOtherUsers(@RequestHeader("X-Sharer-User-Id") long userId,
+															@Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+															@RequestParam(name = "cursor", required = false) String cursor) {
+		log.info("Get request from other users: userId={}, size={}, cursor={}", userId, size, cursor);
+		return itemRequestClient.getItemRequestsFromOtherUsers(userId, size, cursor);
 	}
 
 	@PostMapping
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemRequestClient extends ReactiveBaseClient {
+
+	private static final String API_PREFIX = "/requests";
+
+	@Autowired
+	public ReactiveItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder, ClientHttpConnector connector) {
+		super(
+				builder
+						.clientConnector(connector)
+						.baseUrl(serverUrl + API_PREFIX)
+						.build()
+		);
+	}
+
+	public Mono<ResponseEntity<Object>> getItemRequests(long userId) {
+		return get("", userId);
+	}
+
+	public Mono<ResponseEntity<Object>> getItemRequest(long requestId, long userId) {
+		return get("/" + requestId, userId);
+	}
+
+	public Mono<ResponseEntity<Object>> getItemRequestsFromOtherUsers(long userId, Integer size, String cursor) {
+		if (cursor == null) {
+			return get("/all?size={size}", userId, Map.of("size", size));
+		}
+		return get("/all?size={size}&cursor={cursor}", userId, Map.of("size", size, "cursor", cursor));
+	}
+
+	public Mono<ResponseEntity<Object>> addItemRequest(ItemRequestDto itemRequestDto, long userId) {
+		return post("", userId, itemRequestDto);
+	}
+}
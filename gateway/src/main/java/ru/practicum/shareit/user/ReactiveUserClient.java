@@ -0,0 +1,45 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.user.dto.UpdateUserRequest;
+import ru.practicum.shareit.user.dto.UserDto;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserClient extends ReactiveBaseClient {
+	private static final String API_PREFIX = "/users";
+
+	@Autowired
+	public ReactiveUserClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder, ClientHttpConnector connector) {
+		super(
+				builder
+						.clientConnector(connector)
+						.baseUrl(serverUrl + API_PREFIX)
+						.build()
+		);
+	}
+
+	public Mono<ResponseEntity<Object>> getUser(long userId) {
+		return get("/" + userId);
+	}
+
+	public Mono<ResponseEntity<Object>> addUser(UserDto userDto) {
+		return post("", userDto);
+	}
+
+	public Mono<ResponseEntity<Object>> updateUser(long userId, UpdateUserRequest userRequest) {
+		return patch("/" + userId, userRequest);
+	}
+
+	public Mono<ResponseEntity<Object>> deleteUser(long userId) {
+		return delete("/" + userId);
+	}
+}
@@ -2,31 +2,36 @@ package ru.practicum.shareit.user;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayResponseCache;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UserClient extends BaseClient {
 	private static final String API_PREFIX = "/users";
 
 	@Autowired
-	public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+	public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder, ClientHttpRequestFactory requestFactory, GatewayResponseCache responseCache) {
 		super(
 				builder
 						.uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-						.requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-						.build()
+						.requestFactory(() -> requestFactory)
+						.build(),
+				responseCache,
+				API_PREFIX
 		);
 	}
 
 	public ResponseEntity<Object> getUser(long userId) {
-		return get("/" + userId);
+		return getCached("/" + userId, null);
 	}
 
 	public ResponseEntity<Object> addUser(UserDto userDto) {
@@ -0,0 +1,114 @@
+package ru.practicum.shareit.booing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.ResponseCacheProperties;
+import ru.practicum.shareit.item.ItemClient;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingClientTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	private BookingClient bookingClient;
+
+	private ItemClient itemClient;
+
+	@Mock
+	private RestTemplate restTemplate;
+
+	@BeforeEach
+	void setUp() {
+		RestTemplateBuilder builder = Mockito.mock(RestTemplateBuilder.class);
+		when(builder.build()).thenReturn(restTemplate);
+		when(builder.uriTemplateHandler(any())).thenReturn(builder);
+		when(builder.requestFactory(any(Supplier.class))).thenReturn(builder);
+
+		String serverUrl = "http://localhost:8080";
+		ClientHttpRequestFactory requestFactory = Mockito.mock(ClientHttpRequestFactory.class);
+		GatewayResponseCache responseCache = new GatewayResponseCache(new ResponseCacheProperties());
+		bookingClient = new BookingClient(serverUrl, builder, requestFactory, responseCache, objectMapper);
+		itemClient = new ItemClient(serverUrl, builder, requestFactory, responseCache);
+	}
+
+	@Test
+	void bookItemEvictsCachedItem() {
+		long itemId = 1L;
+		long ownerId = 1L;
+		stubCachedItem(itemId);
+		when(restTemplate.exchange(eq(""), eq(HttpMethod.POST), any(HttpEntity.class), eq(byte[].class)))
+				.thenReturn(ResponseEntity.ok(json(Map.of("id", 7L, "item", Map.of("id", itemId)))));
+
+		itemClient.getItem(itemId, ownerId);
+		bookingClient.bookItem(2L, BookItemRequestDto.builder()
+				.itemId(itemId)
+				.start(LocalDateTime.now().plusDays(1))
+				.end(LocalDateTime.now().plusDays(2))
+				.build());
+		itemClient.getItem(itemId, ownerId);
+
+		verify(restTemplate, times(2))
+				.exchange(eq("/" + itemId), eq(HttpMethod.GET), any(HttpEntity.class), eq(byte[].class));
+	}
+
+	@Test
+	void approveBookingEvictsCachedItem() {
+		long itemId = 1L;
+		long ownerId = 1L;
+		long bookingId = 7L;
+		stubCachedItem(itemId);
+		when(restTemplate.exchange(eq("/" + bookingId + "?approved={approved}"), eq(HttpMethod.PATCH),
+				any(HttpEntity.class), eq(byte[].class), anyMap()))
+				.thenReturn(ResponseEntity.ok(json(Map.of("id", bookingId, "item", Map.of("id", itemId)))));
+
+		itemClient.getItem(itemId, ownerId);
+		bookingClient.approveBooking(bookingId, ownerId, true);
+		itemClient.getItem(itemId, ownerId);
+
+		verify(restTemplate, times(2))
+				.exchange(eq("/" + itemId), eq(HttpMethod.GET), any(HttpEntity.class), eq(byte[].class));
+	}
+
+	private void stubCachedItem(long itemId) {
+		when(restTemplate.exchange(eq("/" + itemId), eq(HttpMethod.GET), any(HttpEntity.class), eq(byte[].class)))
+				.thenReturn(ResponseEntity.ok()
+						.contentType(MediaType.APPLICATION_JSON)
+						.eTag("\"v1\"")
+						.body(json(Map.of("id", itemId))));
+	}
+
+	private byte[] json(Object body) {
+		try {
+			return objectMapper.writeValueAsBytes(body);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -14,11 +14,13 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.practicum.shareit.booking.BookingClient;
 import ru.practicum.shareit.booking.BookingController;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingState;
 
 import java.time.LocalDateTime;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -55,6 +57,18 @@ public class BookingControllerTest {
 				.andExpect(status().isOk());
 	}
 
+	@Test
+	void getBookingsWithCursor() throws Exception {
+		mockMvc.perform(get(BASE_URL + "/owner")
+						.header("X-Sharer-User-Id", 1L)
+						.param("state", "future")
+						.param("size", "5")
+						.param("cursor", "cursor"))
+				.andExpect(status().isOk());
+
+		verify(bookingClient).getBookingsByItemOwnerIdAndState(1L, BookingState.FUTURE, 0, 5, "cursor");
+	}
+
 	@Test
 	void getBooking() throws Exception {
 		mockMvc.perform(get(BASE_URL + "/1")
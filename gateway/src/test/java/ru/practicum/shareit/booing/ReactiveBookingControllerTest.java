@@ -0,0 +1,69 @@
+package ru.practicum.shareit.booing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.ReactiveBookingClient;
+import ru.practicum.shareit.booking.ReactiveBookingController;
+import ru.practicum.shareit.booking.dto.BookingState;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveBookingControllerTest {
+
+	private static final String BASE_URL = "/bookings";
+
+	@Mock
+	private ReactiveBookingClient bookingClient;
+
+	@InjectMocks
+	private ReactiveBookingController bookingController;
+
+	private WebTestClient webTestClient;
+
+	@BeforeEach
+	void setUp() {
+		webTestClient = WebTestClient.bindToController(bookingController).build();
+	}
+
+	@Test
+	void getBookings() {
+		when(bookingClient.getBookings(1L, BookingState.WAITING, 0, 5, "token"))
+				.thenReturn(Mono.just(ResponseEntity.ok()
+						.header("X-Next-Cursor", "next")
+						.body(List.of())));
+
+		webTestClient.get()
+				.uri(BASE_URL + "?state=waiting&size=5&cursor=token")
+				.header("X-Sharer-User-Id", "1")
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().valueEquals("X-Next-Cursor", "next");
+
+		verify(bookingClient).getBookings(1L, BookingState.WAITING, 0, 5, "token");
+	}
+
+	@Test
+	void approveBooking() {
+		when(bookingClient.approveBooking(2L, 1L, true))
+				.thenReturn(Mono.just(ResponseEntity.ok().build()));
+
+		webTestClient.patch()
+				.uri(BASE_URL + "/2?approved=true")
+				.header("X-Sharer-User-Id", "1")
+				.exchange()
+				.expectStatus().isOk();
+
+		verify(bookingClient).approveBooking(2L, 1L, true);
+	}
+}
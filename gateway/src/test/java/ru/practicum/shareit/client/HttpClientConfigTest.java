@@ -0,0 +1,44 @@
+package ru.practicum.shareit.client;
+
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class HttpClientConfigTest {
+
+	private final HttpClientConfig httpClientConfig = new HttpClientConfig();
+
+	@Test
+	void connectionManagerUsesPoolProperties() {
+		ServerHttpClientProperties properties = new ServerHttpClientProperties();
+		properties.setMaxTotal(40);
+		properties.setMaxPerRoute(20);
+
+		try (PoolingHttpClientConnectionManager connectionManager = httpClientConfig.serverConnectionManager(properties)) {
+			assertEquals(40, connectionManager.getMaxTotal());
+			assertEquals(20, connectionManager.getDefaultMaxPerRoute());
+		}
+	}
+
+	@Test
+	void keepAliveIsCappedByConfiguredMaximum() {
+		ConnectionKeepAliveStrategy strategy = HttpClientConfig.keepAliveStrategy(TimeValue.ofSeconds(15));
+
+		BasicHttpResponse shortKeepAlive = new BasicHttpResponse(200);
+		shortKeepAlive.addHeader("Keep-Alive", "timeout=5");
+		BasicHttpResponse longKeepAlive = new BasicHttpResponse(200);
+		longKeepAlive.addHeader("Keep-Alive", "timeout=60");
+
+		assertEquals(5, strategy.getKeepAliveDuration(shortKeepAlive, HttpClientContext.create()).toSeconds());
+		assertEquals(15, strategy.getKeepAliveDuration(longKeepAlive, HttpClientContext.create()).toSeconds());
+		assertEquals(TimeUnit.SECONDS.toMillis(15),
+				strategy.getKeepAliveDuration(new BasicHttpResponse(200), HttpClientContext.create()).toMilliseconds());
+	}
+}
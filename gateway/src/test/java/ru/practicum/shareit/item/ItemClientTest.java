@@ -1,5 +1,7 @@
 package ru.practicum.shareit.item;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,29 +9,47 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.ResponseCacheProperties;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CreateItemRequest;
+import ru.practicum.shareit.item.dto.CreateItemsRequest;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class ItemClientTest {
 
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
 	private ItemClient itemClient;
 
 	@Mock
@@ -37,18 +57,12 @@ public class ItemClientTest {
 
 	@BeforeEach
 	void setUp() {
-		RestTemplateBuilder builder = Mockito.mock(RestTemplateBuilder.class);
-		when(builder.build()).thenReturn(restTemplate);
-		when(builder.uriTemplateHandler(any())).thenReturn(builder);
-		when(builder.requestFactory(any(Supplier.class))).thenReturn(builder);
-
-		String serverUrl = "http://localhost:8080";
-		itemClient = new ItemClient(serverUrl, builder);
+		itemClient = newItemClient(new ResponseCacheProperties());
 	}
 
 	@Test
 	void getItem() {
-		ResponseEntity<Object> expectedResponse = ResponseEntity.ok().build();
+		ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok().build();
 		long itemId = 1L;
 		long userId = 1L;
 		String expectedUrl = "/" + itemId;
@@ -59,7 +73,7 @@ public class ItemClientTest {
 				argThat(entity -> Objects.equals(entity.getHeaders().getContentType(), MediaType.APPLICATION_JSON) &&
 						entity.getHeaders().getAccept().contains(MediaType.APPLICATION_JSON) &&
 						Objects.equals(entity.getHeaders().getFirst("X-Sharer-User-Id"), String.valueOf(userId))),
-				eq(Object.class)
+				eq(byte[].class)
 		)).thenReturn(expectedResponse);
 
 		ResponseEntity<Object> actualResponse = itemClient.getItem(itemId, userId);
@@ -82,7 +96,7 @@ public class ItemClientTest {
 				.description(createItemRequest.getDescription())
 				.isAvailable(createItemRequest.getIsAvailable())
 				.build();
-		ResponseEntity<Object> expectedResponse = ResponseEntity.ok(itemDto);
+		ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok(json(itemDto));
 
 		when(restTemplate.exchange(
 				eq(expectedUrl),
@@ -91,7 +105,7 @@ public class ItemClientTest {
 						entity.getHeaders().getAccept().contains(MediaType.APPLICATION_JSON) &&
 						Objects.equals(entity.getHeaders().getFirst("X-Sharer-User-Id"), String.valueOf(userId)) &&
 						Objects.equals(entity.getBody(), createItemRequest)),
-				eq(Object.class)
+				eq(byte[].class)
 		)).thenReturn(expectedResponse);
 		ResponseEntity<Object> actualResponse = itemClient.addItem(createItemRequest, userId);
 
@@ -116,7 +130,7 @@ public class ItemClientTest {
 				.description(updateItemRequest.getDescription())
 				.isAvailable(updateItemRequest.getIsAvailable())
 				.build();
-		ResponseEntity<Object> expectedResponse = ResponseEntity.ok(itemDto);
+		ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok(json(itemDto));
 
 		when(restTemplate.exchange(
 				eq(expectedUrl),
@@ -125,7 +139,7 @@ public class ItemClientTest {
 						entity.getHeaders().getAccept().contains(MediaType.APPLICATION_JSON) &&
 						Objects.equals(entity.getHeaders().getFirst("X-Sharer-User-Id"), String.valueOf(userId)) &&
 						Objects.equals(entity.getBody(), updateItemRequest)),
-				eq(Object.class)
+				eq(byte[].class)
 		)).thenReturn(expectedResponse);
 		ResponseEntity<Object> actualResponse = itemClient.updateItem(itemId, updateItemRequest, userId);
 
@@ -141,7 +155,7 @@ public class ItemClientTest {
 		CommentDto commentDto = CommentDto.builder()
 				.text("comment")
 				.build();
-		ResponseEntity<Object> expectedResponse = ResponseEntity.ok(commentDto);
+		ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok(json(commentDto));
 
 		when(restTemplate.exchange(
 				eq(expectedUrl),
@@ -150,7 +164,7 @@ public class ItemClientTest {
 						entity.getHeaders().getAccept().contains(MediaType.APPLICATION_JSON) &&
 						Objects.equals(entity.getHeaders().getFirst("X-Sharer-User-Id"), String.valueOf(userId)) &&
 						Objects.equals(entity.getBody(), commentDto)),
-				eq(Object.class)
+				eq(byte[].class)
 		)).thenReturn(expectedResponse);
 		ResponseEntity<Object> actualResponse = itemClient.addComment(commentDto, itemId, userId);
 
@@ -161,13 +175,13 @@ public class ItemClientTest {
 	void searchItem() {
 		long userId = 1L;
 		String searchText = "text";
-		String expectedUrl = "/search?text={text}";
+		String expectedUrl = "/search?text={text}&from={from}&size={size}";
 		ItemDto itemDto = ItemDto.builder()
 				.name("text")
 				.description("text")
 				.isAvailable(true)
 				.build();
-		ResponseEntity<Object> expectedResponse = ResponseEntity.ok(List.of(itemDto));
+		ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok(json(List.of(itemDto)));
 
 		when(restTemplate.exchange(
 				eq(expectedUrl),
@@ -175,10 +189,10 @@ public class ItemClientTest {
 				argThat(entity -> Objects.equals(entity.getHeaders().getContentType(), MediaType.APPLICATION_JSON) &&
 						entity.getHeaders().getAccept().contains(MediaType.APPLICATION_JSON) &&
 						Objects.equals(entity.getHeaders().getFirst("X-Sharer-User-Id"), String.valueOf(userId))),
-				eq(Object.class),
-				eq(Map.of("text", searchText))
+				eq(byte[].class),
+				eq(Map.of("text", searchText, "from", 0, "size", 10))
 		)).thenReturn(expectedResponse);
-		ResponseEntity<Object> actualResponse = itemClient.search(userId, searchText);
+		ResponseEntity<Object> actualResponse = itemClient.search(userId, searchText, 0, 10, null, null);
 
 		assertEquals(expectedResponse, actualResponse);
 	}
@@ -187,7 +201,7 @@ public class ItemClientTest {
 	void getItemsByUser() {
 		long userId = 1L;
 		String expectedUrl = "";
-		ResponseEntity<Object> expectedResponse = ResponseEntity.ok().build();
+		ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok().build();
 
 		when(restTemplate.exchange(
 				eq(expectedUrl),
@@ -195,11 +209,158 @@ public class ItemClientTest {
 				argThat(entity -> Objects.equals(entity.getHeaders().getContentType(), MediaType.APPLICATION_JSON) &&
 						entity.getHeaders().getAccept().contains(MediaType.APPLICATION_JSON) &&
 						Objects.equals(entity.getHeaders().getFirst("X-Sharer-User-Id"), String.valueOf(userId))),
-				eq(Object.class)
+				eq(byte[].class)
 		)).thenReturn(expectedResponse);
 		ResponseEntity<Object> actualResponse = itemClient.getItemsByUser(userId);
 
 		assertEquals(expectedResponse, actualResponse);
 	}
 
+	@Test
+	void passThroughServerResponse() {
+		long itemId = 1L;
+		long userId = 1L;
+		byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+		HttpHeaders serverHeaders = new HttpHeaders();
+		serverHeaders.setContentType(MediaType.APPLICATION_JSON);
+		serverHeaders.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+		serverHeaders.set("X-Next-Cursor", "token");
+
+		when(restTemplate.exchange(eq("/" + itemId), eq(HttpMethod.GET), any(HttpEntity.class), eq(byte[].class)))
+				.thenReturn(new ResponseEntity<>(body, serverHeaders, HttpStatus.OK));
+		ResponseEntity<Object> actualResponse = itemClient.getItem(itemId, userId);
+
+		assertSame(body, actualResponse.getBody());
+		assertEquals(MediaType.APPLICATION_JSON, actualResponse.getHeaders().getContentType());
+		assertEquals("token", actualResponse.getHeaders().getFirst("X-Next-Cursor"));
+		assertFalse(actualResponse.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+	}
+
+	@Test
+	void passThroughServerError() {
+		long itemId = 1L;
+		long userId = 1L;
+		byte[] body = "{\"error\":\"Элемент не найден: ID = 1\"}".getBytes(StandardCharsets.UTF_8);
+		HttpHeaders serverHeaders = new HttpHeaders();
+		serverHeaders.setContentType(MediaType.APPLICATION_JSON);
+
+		when(restTemplate.exchange(eq("/" + itemId), eq(HttpMethod.GET), any(HttpEntity.class), eq(byte[].class)))
+				.thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", serverHeaders, body,
+						StandardCharsets.UTF_8));
+		ResponseEntity<Object> actualResponse = itemClient.getItem(itemId, userId);
+
+		assertEquals(HttpStatus.NOT_FOUND, actualResponse.getStatusCode());
+		assertEquals(MediaType.APPLICATION_JSON, actualResponse.getHeaders().getContentType());
+		assertArrayEquals(body, (byte[]) actualResponse.getBody());
+	}
+
+	@Test
+	void getItemServedFromCacheWhileFresh() {
+		long itemId = 1L;
+		long userId = 1L;
+		byte[] body = json(ItemDto.builder().id(itemId).name("name").build());
+
+		when(restTemplate.exchange(eq("/" + itemId), eq(HttpMethod.GET), any(HttpEntity.class), eq(byte[].class)))
+				.thenReturn(withEtag(body, "\"v1\""));
+
+		itemClient.getItem(itemId, userId);
+		ResponseEntity<Object> cachedResponse = itemClient.getItem(itemId, userId);
+
+		assertEquals(HttpStatus.OK, cachedResponse.getStatusCode());
+		assertArrayEquals(body, (byte[]) cachedResponse.getBody());
+		assertEquals("\"v1\"", cachedResponse.getHeaders().getETag());
+		verify(restTemplate, times(1))
+				.exchange(eq("/" + itemId), eq(HttpMethod.GET), any(HttpEntity.class), eq(byte[].class));
+	}
+
+	@Test
+	void getItemRevalidatedWithIfNoneMatch() {
+		ResponseCacheProperties properties = new ResponseCacheProperties();
+		properties.setFreshFor(Duration.ZERO);
+		itemClient = newItemClient(properties);
+		long itemId = 1L;
+		long userId = 1L;
+		byte[] body = json(ItemDto.builder().id(itemId).name("name").build());
+
+		when(restTemplate.exchange(eq("/" + itemId), eq(HttpMethod.GET),
+				argThat(entity -> entity.getHeaders().getIfNoneMatch().isEmpty()), eq(byte[].class)))
+				.thenReturn(withEtag(body, "\"v1\""));
+		when(restTemplate.exchange(eq("/" + itemId), eq(HttpMethod.GET),
+				argThat(entity -> entity.getHeaders().getIfNoneMatch().contains("\"v1\"")), eq(byte[].class)))
+				.thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"v1\"").build());
+
+		itemClient.getItem(itemId, userId);
+		ResponseEntity<Object> revalidatedResponse = itemClient.getItem(itemId, userId);
+
+		assertEquals(HttpStatus.OK, revalidatedResponse.getStatusCode());
+		assertArrayEquals(body, (byte[]) revalidatedResponse.getBody());
+	}
+
+	@Test
+	void updateItemEvictsCachedItem() {
+		long itemId = 1L;
+		long userId = 1L;
+		byte[] body = json(ItemDto.builder().id(itemId).name("name").build());
+
+		when(restTemplate.exchange(eq("/" + itemId), eq(HttpMethod.GET), any(HttpEntity.class), eq(byte[].class)))
+				.thenReturn(withEtag(body, "\"v1\""));
+		when(restTemplate.exchange(eq("/" + itemId), eq(HttpMethod.PATCH), any(HttpEntity.class), eq(byte[].class)))
+				.thenReturn(ResponseEntity.ok(body));
+
+		itemClient.getItem(itemId, userId);
+		itemClient.updateItem(itemId, UpdateItemRequest.builder().name("updated").build(), userId);
+		itemClient.getItem(itemId, userId);
+
+		verify(restTemplate, times(2))
+				.exchange(eq("/" + itemId), eq(HttpMethod.GET), any(HttpEntity.class), eq(byte[].class));
+	}
+
+	@Test
+	void failedBatchKeepsCachedRequest() {
+		GatewayResponseCache responseCache = new GatewayResponseCache(new ResponseCacheProperties());
+		itemClient = newItemClient(responseCache);
+		long requestId = 5L;
+		long userId = 1L;
+		responseCache.put("/requests/" + requestId, userId, withEtag(json(Map.of("id", requestId)), "\"v1\""));
+		when(restTemplate.exchange(eq("/batch"), eq(HttpMethod.POST), any(HttpEntity.class), eq(byte[].class)))
+				.thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", new HttpHeaders(),
+						new byte[0], StandardCharsets.UTF_8));
+
+		ResponseEntity<Object> response = itemClient.addItems(CreateItemsRequest.builder()
+				.items(List.of(CreateItemRequest.builder().name("name").description("desc").isAvailable(true)
+						.requestId(requestId).build()))
+				.build(), userId);
+
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+		assertNotNull(responseCache.get("/requests/" + requestId, userId));
+	}
+
+	private ItemClient newItemClient(ResponseCacheProperties cacheProperties) {
+		return newItemClient(new GatewayResponseCache(cacheProperties));
+	}
+
+	private ItemClient newItemClient(GatewayResponseCache responseCache) {
+		RestTemplateBuilder builder = Mockito.mock(RestTemplateBuilder.class);
+		when(builder.build()).thenReturn(restTemplate);
+		when(builder.uriTemplateHandler(any())).thenReturn(builder);
+		when(builder.requestFactory(any(Supplier.class))).thenReturn(builder);
+
+		String serverUrl = "http://localhost:8080";
+		return new ItemClient(serverUrl, builder, Mockito.mock(ClientHttpRequestFactory.class), responseCache);
+	}
+
+	private static ResponseEntity<byte[]> withEtag(byte[] body, String etag) {
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.eTag(etag)
+				.body(body);
+	}
+
+	private byte[] json(Object body) {
+		try {
+			return objectMapper.writeValueAsBytes(body);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
 }
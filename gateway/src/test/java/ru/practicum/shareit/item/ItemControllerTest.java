@@ -12,10 +12,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CreateItemRequest;
+import ru.practicum.shareit.item.dto.CreateItemsRequest;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -57,6 +63,66 @@ public class ItemControllerTest {
 				.andExpect(status().isOk());
 	}
 
+	@Test
+	void searchItemAvailableInPeriod() throws Exception {
+		mockMvc.perform(get(BASE_URL + "/search")
+						.param("text", "searchText")
+						.param("start", "2030-01-04T10:00:00")
+						.param("end", "2030-01-06T10:00:00")
+						.header("X-Sharer-User-Id", 1L))
+				.andExpect(status().isOk());
+		verify(itemClient).search(1L, "searchText", 0, 10,
+				LocalDateTime.of(2030, 1, 4, 10, 0), LocalDateTime.of(2030, 1, 6, 10, 0));
+	}
+
+	@Test
+	void searchItemWithHalfOpenPeriod() throws Exception {
+		mockMvc.perform(get(BASE_URL + "/search")
+						.param("text", "searchText")
+						.param("start", "2030-01-04T10:00:00")
+						.header("X-Sharer-User-Id", 1L))
+				.andExpect(status().isBadRequest());
+		verify(itemClient, never()).search(anyLong(), any(), any(), any(), any(), any());
+	}
+
+	@Test
+	void searchItemWithReversedPeriod() throws Exception {
+		mockMvc.perform(get(BASE_URL + "/search")
+						.param("text", "searchText")
+						.param("start", "2030-01-06T10:00:00")
+						.param("end", "2030-01-04T10:00:00")
+						.header("X-Sharer-User-Id", 1L))
+				.andExpect(status().isBadRequest());
+		verify(itemClient, never()).search(anyLong(), any(), any(), any(), any(), any());
+	}
+
+	@Test
+	void searchItemWithPastPeriod() throws Exception {
+		mockMvc.perform(get(BASE_URL + "/search")
+						.param("text", "searchText")
+						.param("start", "2020-01-04T10:00:00")
+						.param("end", "2020-01-06T10:00:00")
+						.header("X-Sharer-User-Id", 1L))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void getAvailability() throws Exception {
+		mockMvc.perform(get(BASE_URL + "/1/availability")
+						.param("from", "2030-01-01T00:00:00")
+						.param("to", "2030-01-02T00:00:00")
+						.header("X-Sharer-User-Id", 1L))
+				.andExpect(status().isOk());
+		verify(itemClient).getAvailability(1L, 1L, LocalDateTime.of(2030, 1, 1, 0, 0), LocalDateTime.of(2030, 1, 2, 0, 0));
+	}
+
+	@Test
+	void getAvailabilityWithoutPeriod() throws Exception {
+		mockMvc.perform(get(BASE_URL + "/1/availability")
+						.header("X-Sharer-User-Id", 1L))
+				.andExpect(status().isBadRequest());
+	}
+
 	@Test
 	void searchItem() throws Exception {
 		mockMvc.perform(get(BASE_URL + "/search")
@@ -93,6 +159,34 @@ public class ItemControllerTest {
 				.andExpect(status().isBadRequest());
 	}
 
+	@Test
+	void createItems() throws Exception {
+		CreateItemsRequest createItemsRequest = new CreateItemsRequest(List.of(
+				CreateItemRequest.builder().name("name1").description("desc1").isAvailable(true).build(),
+				CreateItemRequest.builder().name("name2").description("desc2").isAvailable(false).build()));
+
+		when(itemClient.addItems(any(CreateItemsRequest.class), anyLong())).thenReturn(null);
+
+		mockMvc.perform(post(BASE_URL + "/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(createItemsRequest))
+						.header("X-Sharer-User-Id", 1L))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	void createItemsInvalid() throws Exception {
+		CreateItemsRequest createItemsRequest = new CreateItemsRequest(List.of(
+				CreateItemRequest.builder().name("name1").description("desc1").isAvailable(true).build(),
+				CreateItemRequest.builder().build()));
+
+		mockMvc.perform(post(BASE_URL + "/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(createItemsRequest))
+						.header("X-Sharer-User-Id", 1L))
+				.andExpect(status().isBadRequest());
+	}
+
 	@Test
 	void updateItem() throws Exception {
 		UpdateItemRequest updateUserRequest = UpdateItemRequest.builder()
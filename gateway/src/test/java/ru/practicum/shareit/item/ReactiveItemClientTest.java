@@ -0,0 +1,132 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.dto.CreateItemRequest;
+import ru.practicum.shareit.item.dto.CreateItemsRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+
+public class ReactiveItemClientTest {
+
+	private final AtomicReference<ClientRequest> lastRequest = new AtomicReference<>();
+
+	@Test
+	void searchForwardsParametersAndHeaders() {
+		ReactiveItemClient itemClient = clientRespondingWith(ClientResponse.create(HttpStatus.OK)
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+				.header("X-Next-Cursor", "token")
+				.body("[{\"id\":1}]")
+				.build());
+
+		ResponseEntity<Object> response = itemClient.search(1L, "дрель", 0, 10, null, null).block();
+
+		ClientRequest request = lastRequest.get();
+		assertEquals(HttpMethod.GET, request.method());
+		assertEquals("/items/search", request.url().getPath());
+		assertEquals("text=дрель&from=0&size=10", request.url().getQuery());
+		assertEquals("1", request.headers().getFirst("X-Sharer-User-Id"));
+		assertNotNull(response);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertArrayEquals("[{\"id\":1}]".getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+		assertEquals("token", response.getHeaders().getFirst("X-Next-Cursor"));
+		assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+	}
+
+	@Test
+	void searchForwardsPeriod() {
+		ReactiveItemClient itemClient = clientRespondingWith(ClientResponse.create(HttpStatus.OK)
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.body("[]")
+				.build());
+		LocalDateTime start = LocalDateTime.of(2030, 1, 4, 10, 0);
+
+		itemClient.search(1L, "дрель", 0, 10, start, start.plusDays(2)).block();
+
+		ClientRequest request = lastRequest.get();
+		assertEquals("/items/search", request.url().getPath());
+		assertEquals("text=дрель&from=0&size=10&start=2030-01-04T10:00&end=2030-01-06T10:00", request.url().getQuery());
+	}
+
+	@Test
+	void availabilityForwardsPeriod() {
+		ReactiveItemClient itemClient = clientRespondingWith(ClientResponse.create(HttpStatus.OK)
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.body("{\"itemId\":1,\"free\":[]}")
+				.build());
+		LocalDateTime from = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+		ResponseEntity<Object> response = itemClient.getAvailability(1L, 2L, from, from.plusDays(1)).block();
+
+		ClientRequest request = lastRequest.get();
+		assertEquals("/items/1/availability", request.url().getPath());
+		assertEquals("from=2030-01-01T10:00&to=2030-01-02T10:00", request.url().getQuery());
+		assertEquals("2", request.headers().getFirst("X-Sharer-User-Id"));
+		assertNotNull(response);
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+	}
+
+	@Test
+	void addItemsPostsBatch() {
+		ReactiveItemClient itemClient = clientRespondingWith(ClientResponse.create(HttpStatus.CREATED)
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.body("[{\"id\":1}]")
+				.build());
+		CreateItemsRequest createItemsRequest = CreateItemsRequest.builder()
+				.items(List.of(CreateItemRequest.builder().name("name").description("desc").isAvailable(true).build()))
+				.build();
+
+		ResponseEntity<Object> response = itemClient.addItems(createItemsRequest, 1L).block();
+
+		ClientRequest request = lastRequest.get();
+		assertEquals(HttpMethod.POST, request.method());
+		assertEquals("/items/batch", request.url().getPath());
+		assertEquals("1", request.headers().getFirst("X-Sharer-User-Id"));
+		assertNotNull(response);
+		assertEquals(HttpStatus.CREATED, response.getStatusCode());
+	}
+
+	@Test
+	void errorStatusIsPassedThrough() {
+		ReactiveItemClient itemClient = clientRespondingWith(ClientResponse.create(HttpStatus.NOT_FOUND)
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.body("{\"error\":\"Элемент не найден: ID = 1\"}")
+				.build());
+
+		ResponseEntity<Object> response = itemClient.getItem(1L, 2L).block();
+
+		assertNotNull(response);
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+		assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+		assertArrayEquals("{\"error\":\"Элемент не найден: ID = 1\"}".getBytes(StandardCharsets.UTF_8),
+				(byte[]) response.getBody());
+	}
+
+	private ReactiveItemClient clientRespondingWith(ClientResponse response) {
+		WebClient.Builder builder = WebClient.builder()
+				.exchangeFunction(request -> {
+					lastRequest.set(request);
+					return Mono.just(response);
+				});
+		return new ReactiveItemClient("http://localhost:9090", builder, mock(ClientHttpConnector.class));
+	}
+}
@@ -14,6 +14,8 @@ import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -77,4 +79,14 @@ public class ItemRequestControllerTest {
 				.andExpect(status().isOk());
 	}
 
+	@Test
+	void getRequestsFromOtherUsersWithCursor() throws Exception {
+		mockMvc.perform(get(BASE_URL + "/all")
+						.param("size", "5")
+						.param("cursor", "token")
+						.header("X-Sharer-User-Id", 1L))
+				.andExpect(status().isOk());
+
+		verify(itemRequestClient, times(1)).getItemRequestsFromOtherUsers(1L, 5, "token");
+	}
 }
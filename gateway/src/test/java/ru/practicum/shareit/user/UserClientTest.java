@@ -1,5 +1,7 @@
 package ru.practicum.shareit.user;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,7 +12,10 @@ import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.ResponseCacheProperties;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 
@@ -26,6 +31,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class UserClientTest {
 
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
 	private UserClient userClient;
 
 	private UserDto userDto;
@@ -41,7 +48,8 @@ public class UserClientTest {
 		when(builder.requestFactory(any(Supplier.class))).thenReturn(builder);
 
 		String serverUrl = "http://localhost:8080";
-		userClient = new UserClient(serverUrl, builder);
+		userClient = new UserClient(serverUrl, builder, Mockito.mock(ClientHttpRequestFactory.class),
+				new GatewayResponseCache(new ResponseCacheProperties()));
 		userDto = UserDto.builder()
 				.id(1L)
 				.name("user")
@@ -51,7 +59,7 @@ public class UserClientTest {
 
 	@Test
 	void getUser() {
-		ResponseEntity<Object> expectedResponse = ResponseEntity.ok().build();
+		ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok().build();
 		long userId = 1L;
 		String expectedUrl = "/" + userId;
 
@@ -62,7 +70,7 @@ public class UserClientTest {
 						Objects.equals(entity.getHeaders().getContentType(), MediaType.APPLICATION_JSON) &&
 								entity.getHeaders().getAccept().contains(MediaType.APPLICATION_JSON)
 				),
-				eq(Object.class)
+				eq(byte[].class)
 		)).thenReturn(expectedResponse);
 		ResponseEntity<Object> actualResponse = userClient.getUser(userId);
 
@@ -71,7 +79,7 @@ public class UserClientTest {
 
 	@Test
 	void createUser() {
-		ResponseEntity<Object> expectedResponse = ResponseEntity.ok(userDto);
+		ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok(json(userDto));
 
 		String expectedUrl = "";
 		when(restTemplate.exchange(
@@ -82,7 +90,7 @@ public class UserClientTest {
 								Objects.equals(entity.getHeaders().getContentType(), MediaType.APPLICATION_JSON) &&
 								entity.getHeaders().getAccept().contains(MediaType.APPLICATION_JSON)
 				),
-				eq(Object.class)
+				eq(byte[].class)
 		)).thenReturn(expectedResponse);
 		ResponseEntity<Object> actualResponse = userClient.addUser(userDto);
 
@@ -100,7 +108,7 @@ public class UserClientTest {
 				.name(updateUserRequest.getName())
 				.email(updateUserRequest.getEmail())
 				.build();
-		ResponseEntity<Object> expectedResponse = ResponseEntity.ok(userDtoUpdated);
+		ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok(json(userDtoUpdated));
 		long userId = 1L;
 		String expectedUrl = "/" + userId;
 
@@ -112,7 +120,7 @@ public class UserClientTest {
 								Objects.equals(entity.getHeaders().getContentType(), MediaType.APPLICATION_JSON) &&
 								entity.getHeaders().getAccept().contains(MediaType.APPLICATION_JSON)
 				),
-				eq(Object.class)
+				eq(byte[].class)
 		)).thenReturn(expectedResponse);
 		ResponseEntity<Object> actualResponse = userClient.updateUser(userId, updateUserRequest);
 
@@ -121,7 +129,7 @@ public class UserClientTest {
 
 	@Test
 	void deleteUser() {
-		ResponseEntity<Object> expectedResponse = ResponseEntity.ok().build();
+		ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok().build();
 		long userId = 1L;
 		String expectedUrl = "/" + userId;
 
@@ -132,10 +140,18 @@ public class UserClientTest {
 						Objects.equals(entity.getHeaders().getContentType(), MediaType.APPLICATION_JSON) &&
 								entity.getHeaders().getAccept().contains(MediaType.APPLICATION_JSON)
 				),
-				eq(Object.class)
+				eq(byte[].class)
 		)).thenReturn(expectedResponse);
 		ResponseEntity<Object> actualResponse = userClient.deleteUser(userId);
 
 		assertEquals(expectedResponse, actualResponse);
 	}
+
+	private byte[] json(Object body) {
+		try {
+			return objectMapper.writeValueAsBytes(body);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
 }
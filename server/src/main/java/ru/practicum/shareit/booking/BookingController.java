@@ -2,6 +2,7 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,7 +18,7 @@ import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
 
-import java.util.Collection;
+import java.util.List;
 
 @RestController
 @RequestMapping(path = "/bookings")
@@ -33,15 +34,21 @@ public class BookingController {
 	}
 
 	@GetMapping
-	public Collection<BookingDto> getBookingsByUser(@RequestHeader("X-Sharer-User-Id") long userId,
-													@RequestParam(required = false, defaultValue = "ALL") BookingState state) {
-		return bookingService.getBookingsByUserIdAndState(userId, state);
+	public ResponseEntity<List<BookingDto>> getBookingsByUser(@RequestHeader("X-Sharer-User-Id") long userId,
+															  @RequestParam(required = false, defaultValue = "ALL") BookingState state,
+															  @RequestParam(required = false) String cursor,
+															  @RequestParam(required = false, defaultValue = "0") int from,
+															  @RequestParam(required = false, defaultValue = "10") int size) {
+		return bookingService.getBookingsByUserIdAndState(userId, state, cursor, from, size).toResponseEntity();
 	}
 
 	@GetMapping("/owner")
-	public Collection<BookingDto> getBookingsByItemOwner(@RequestHeader("X-Sharer-User-Id") long userId,
-														 @RequestParam(required = false, defaultValue = "ALL") BookingState state) {
-		return bookingService.getBookingsByItemOwnerIdAndState(userId, state);
+	public ResponseEntity<List<BookingDto>> getBookingsByItemOwner(@RequestHeader("X-Sharer-User-Id") long userId,
+																   @RequestParam(required = false, defaultValue = "ALL") BookingState state,
+																   @RequestParam(required = false) String cursor,
+																   @RequestParam(required = false, defaultValue = "0") int from,
+																   @RequestParam(required = false, defaultValue = "10") int size) {
+		return bookingService.getBookingsByItemOwnerIdAndState(userId, state, cursor, from, size).toResponseEntity();
 	}
 
 	@PostMapping
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.booking.dao;
+
+import java.time.LocalDateTime;
+
+public interface BookingInterval {
+
+	Long getId();
+
+	LocalDateTime getStart();
+
+	LocalDateTime getEnd();
+}
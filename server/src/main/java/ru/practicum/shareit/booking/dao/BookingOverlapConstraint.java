@@ -0,0 +1,22 @@
+package ru.practicum.shareit.booking.dao;
+
+import java.sql.SQLException;
+
+public final class BookingOverlapConstraint {
+
+	public static final String NAME = "ex_bookings_item_period";
+
+	public static final String SQL_STATE = "23P01";
+
+	private BookingOverlapConstraint() {
+	}
+
+	public static boolean isViolatedBy(Throwable throwable) {
+		for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLException sqlException && SQL_STATE.equals(sqlException.getSQLState())) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
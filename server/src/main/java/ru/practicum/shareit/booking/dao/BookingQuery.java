@@ -0,0 +1,28 @@
+package ru.practicum.shareit.booking.dao;
+
+import lombok.Builder;
+import lombok.Data;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.pagination.PageCursor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class BookingQuery {
+
+	private Long bookerId;
+
+	private Long ownerId;
+
+	@Builder.Default
+	private BookingState state = BookingState.ALL;
+
+	private LocalDateTime now;
+
+	private PageCursor cursor;
+
+	private int offset;
+
+	private int limit;
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.dao;
+
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.jdbc.QueryIndexes;
+import ru.practicum.shareit.jdbc.RequiresIndex;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingQueryRepository {
+
+	@RequiresIndex(name = QueryIndexes.IX_BOOKINGS_BOOKER_START, table = "bookings", columns = {"booker_id", "start_date"})
+	@RequiresIndex(name = QueryIndexes.IX_BOOKINGS_ITEM_PERIOD, table = "bookings", columns = {"item_id", "start_date"})
+	List<BookingDto> findAllByQuery(BookingQuery query);
+
+	Optional<BookingDto> findDtoByIdAndParticipantId(Long id, Long userId);
+}
@@ -0,0 +1,172 @@
+package ru.practicum.shareit.booking.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class BookingQueryRepositoryImpl implements BookingQueryRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<BookingDto> findAllByQuery(BookingQuery query) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> criteriaQuery = cb.createTupleQuery();
+		Root<Booking> booking = criteriaQuery.from(Booking.class);
+		Join<Booking, Item> item = selectBookingDto(criteriaQuery, booking);
+
+		criteriaQuery.where(buildPredicates(cb, booking, item, query).toArray(Predicate[]::new));
+		criteriaQuery.orderBy(cb.desc(booking.get("start")), cb.desc(booking.get("id")));
+
+		TypedQuery<Tuple> typedQuery = entityManager.createQuery(criteriaQuery)
+				.setMaxResults(query.getLimit());
+		if (query.getCursor() == null) {
+			typedQuery.setFirstResult(query.getOffset());
+		}
+		return typedQuery.getResultList().stream()
+				.map(this::toBookingDto)
+				.toList();
+	}
+
+	@Override
+	public Optional<BookingDto> findDtoByIdAndParticipantId(Long id, Long userId) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> criteriaQuery = cb.createTupleQuery();
+		Root<Booking> booking = criteriaQuery.from(Booking.class);
+		Join<Booking, Item> item = selectBookingDto(criteriaQuery, booking);
+
+		criteriaQuery.where(
+				cb.equal(booking.get("id"), id),
+				cb.or(
+						cb.equal(booking.get("booker").get("id"), userId),
+						cb.equal(item.get("owner").get("id"), userId)));
+
+		return entityManager.createQuery(criteriaQuery).getResultList().stream()
+				.findFirst()
+				.map(this::toBookingDto);
+	}
+
+	private Join<Booking, Item> selectBookingDto(CriteriaQuery<Tuple> criteriaQuery, Root<Booking> booking) {
+		Join<Booking, Item> item = booking.join("item");
+		Join<Booking, User> booker = booking.join("booker");
+		Join<Item, ItemRequest> request = item.join("request", JoinType.LEFT);
+		Join<ItemRequest, User> requestor = request.join("requestor", JoinType.LEFT);
+
+		criteriaQuery.multiselect(
+				booking.get("id").alias("id"),
+				booking.get("start").alias("start"),
+				booking.get("end").alias("end"),
+				booking.get("status").alias("status"),
+				item.get("id").alias("itemId"),
+				item.get("name").alias("itemName"),
+				item.get("description").alias("itemDescription"),
+				item.get("isAvailable").alias("itemAvailable"),
+				request.get("id").alias("requestId"),
+				request.get("description").alias("requestDescription"),
+				request.get("created").alias("requestCreated"),
+				requestor.get("id").alias("requestorId"),
+				requestor.get("name").alias("requestorName"),
+				requestor.get("email").alias("requestorEmail"),
+				booker.get("id").alias("bookerId"),
+				booker.get("name").alias("bookerName"),
+				booker.get("email").alias("bookerEmail"));
+		return item;
+	}
+
+	private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<Booking> booking, Join<Booking, Item> item, BookingQuery query) {
+		List<Predicate> predicates = new ArrayList<>();
+		if (query.getBookerId() != null) {
+			predicates.add(cb.equal(booking.get("booker").get("id"), query.getBookerId()));
+		}
+		if (query.getOwnerId() != null) {
+			predicates.add(cb.equal(item.get("owner").get("id"), query.getOwnerId()));
+		}
+
+		Path<LocalDateTime> start = booking.get("start");
+		Path<LocalDateTime> end = booking.get("end");
+		LocalDateTime now = query.getNow();
+		switch (query.getState()) {
+			case PAST -> predicates.add(cb.lessThan(end, now));
+			case CURRENT -> {
+				predicates.add(cb.lessThan(start, now));
+				predicates.add(cb.greaterThan(end, now));
+			}
+			case FUTURE -> predicates.add(cb.greaterThan(start, now));
+			case WAITING -> predicates.add(cb.equal(booking.get("status"), BookingStatus.WAITING));
+			case REJECTED -> predicates.add(cb.equal(booking.get("status"), BookingStatus.REJECTED));
+			case ALL -> {
+			}
+		}
+
+		if (query.getCursor() != null) {
+			LocalDateTime cursorStart = query.getCursor().getTimestamp();
+			predicates.add(cb.or(
+					cb.lessThan(start, cursorStart),
+					cb.and(
+							cb.equal(start, cursorStart),
+							cb.lessThan(booking.get("id"), query.getCursor().getId()))));
+		}
+		return predicates;
+	}
+
+	private BookingDto toBookingDto(Tuple tuple) {
+		ItemRequestDto request = null;
+		if (tuple.get("requestId") != null) {
+			request = ItemRequestDto.builder()
+					.id(tuple.get("requestId", Long.class))
+					.description(tuple.get("requestDescription", String.class))
+					.created(tuple.get("requestCreated", LocalDateTime.class))
+					.requestor(toUserDto(tuple, "requestor"))
+					.build();
+		}
+		ItemDto item = ItemDto.builder()
+				.id(tuple.get("itemId", Long.class))
+				.name(tuple.get("itemName", String.class))
+				.description(tuple.get("itemDescription", String.class))
+				.isAvailable(tuple.get("itemAvailable", Boolean.class))
+				.request(request)
+				.build();
+		return BookingDto.builder()
+				.id(tuple.get("id", Long.class))
+				.start(tuple.get("start", LocalDateTime.class))
+				.end(tuple.get("end", LocalDateTime.class))
+				.status(tuple.get("status", BookingStatus.class))
+				.item(item)
+				.booker(toUserDto(tuple, "booker"))
+				.build();
+	}
+
+	private UserDto toUserDto(Tuple tuple, String prefix) {
+		if (tuple.get(prefix + "Id") == null) {
+			return null;
+		}
+		return UserDto.builder()
+				.id(tuple.get(prefix + "Id", Long.class))
+				.name(tuple.get(prefix + "Name", String.class))
+				.email(tuple.get(prefix + "Email", String.class))
+				.build();
+	}
+}
@@ -1,40 +1,65 @@
 package ru.practicum.shareit.booking.dao;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.jdbc.QueryIndexes;
+import ru.practicum.shareit.jdbc.RequiresIndex;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingQueryRepository {
 
-	Optional<Booking> findByIdAndItemOwnerId(Long id, Long ownerId);
-
-	List<Booking> findAllByBookerIdOrderByStartDesc(Long userId);
-
-	List<Booking> findAllByBookerIdAndEndBeforeOrderByStartDesc(Long userId, LocalDateTime endDate);
-
-	List<Booking> findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long userId, LocalDateTime startDate, LocalDateTime endDate);
-
-	List<Booking> findAllByBookerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime startDate);
-
-	List<Booking> findAllByBookerIdAndStatusOrderByStartDesc(Long userId, BookingStatus bookingStatus);
+	String SKIP_LOCKED = "-2";
 
-	List<Booking> findAllByBookerIdAndItemIdAndEndBefore(Long userId, Long itemId, LocalDateTime endDate);
-
-	Optional<Booking> findByItemIdAndStartBeforeAndEndAfter(Long id, LocalDateTime startDate, LocalDateTime endDate);
-
-	List<Booking> findAllByItemOwnerIdOrderByStartDesc(Long userId);
-
-	List<Booking> findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(Long userId, LocalDateTime endDate);
-
-	List<Booking> findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long userId, LocalDateTime startDate, LocalDateTime endDate);
-
-	List<Booking> findAllByItemOwnerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime startDate);
+	@EntityGraph(Booking.DETAILS_GRAPH)
+	Optional<Booking> findByIdAndItemOwnerId(Long id, Long ownerId);
 
-	List<Booking> findAllByItemOwnerIdAndStatusOrderByStartDesc(Long userId, BookingStatus bookingStatus);
+	@Query("select booking.item.id from Booking booking where booking.id = ?1")
+	Optional<Long> findItemIdById(Long id);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select booking from Booking booking where booking.id = ?1")
+	Optional<Booking> findForUpdateById(Long id);
+
+	@RequiresIndex(name = QueryIndexes.IX_BOOKINGS_BOOKER_START, table = "bookings", columns = "booker_id")
+	@Query("select distinct booking.item.id from Booking booking where booking.booker.id = ?1")
+	List<Long> findItemIdsByBookerId(Long bookerId);
+
+	@RequiresIndex(name = QueryIndexes.IX_BOOKINGS_BOOKER_ITEM_END_STATUS, table = "bookings", columns = {"booker_id", "item_id", "end_date", "status"})
+	boolean existsByBookerIdAndItemIdAndEndBeforeAndStatus(Long bookerId, Long itemId, LocalDateTime endDate, BookingStatus status);
+
+	@RequiresIndex(name = QueryIndexes.IX_BOOKINGS_ITEM_PERIOD, table = "bookings", columns = {"item_id", "start_date"})
+	@Query("select booking.id as id, booking.start as start, booking.end as end " +
+			"from Booking booking " +
+			"where booking.item.id = ?1 " +
+			"and booking.status in ?2 " +
+			"and booking.end > ?3")
+	List<BookingInterval> findAllIntervalsByItemId(Long itemId, Collection<BookingStatus> statuses, LocalDateTime endAfter);
+
+	@RequiresIndex(name = QueryIndexes.IX_BOOKINGS_STATUS_START, table = "bookings", columns = {"status", "start_date"})
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+	@Query("select booking from Booking booking " +
+			"where booking.status = ?1 " +
+			"and booking.start <= ?2 " +
+			"order by booking.start")
+	List<Booking> findAllByStatusAndStartBeforeSkipLocked(BookingStatus status, LocalDateTime startBefore, Limit limit);
+
+	@Modifying
+	@Query("update Booking booking set booking.status = ?2 where booking.id in ?1")
+	int updateStatusByIdIn(Collection<Long> ids, BookingStatus status);
 }
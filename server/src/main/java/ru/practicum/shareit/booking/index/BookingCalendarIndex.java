@@ -0,0 +1,135 @@
+package ru.practicum.shareit.booking.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.lock.ItemLockManager;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.AvailabilitySlotDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class BookingCalendarIndex {
+
+	static final int HORIZON_HOURS = 2 * 366 * 24;
+
+	private final BookingRepository bookingRepository;
+
+	private final ItemRepository itemRepository;
+
+	private final ItemLockManager itemLockManager;
+
+	private final Cache<Long, OccupancyCalendar> calendars;
+
+	public BookingCalendarIndex(BookingRepository bookingRepository,
+								ItemRepository itemRepository,
+								ItemLockManager itemLockManager,
+								@Value("${shareit.booking.calendar.maximum-size:10000}") long maximumSize,
+								@Value("${shareit.booking.calendar.expire-after-write:PT5M}") Duration expireAfterWrite) {
+		this.bookingRepository = bookingRepository;
+		this.itemRepository = itemRepository;
+		this.itemLockManager = itemLockManager;
+		this.calendars = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(expireAfterWrite)
+				.build();
+	}
+
+	public Optional<List<AvailabilitySlotDto>> findFreeSlots(Long itemId, LocalDateTime from, LocalDateTime to) {
+		long end = toSeconds(to);
+		OccupancyCalendar calendar = itemLockManager.isClusterWide() ? load(itemId) : getCalendar(itemId, end);
+		if (calendar == null) {
+			return Optional.empty();
+		}
+		return Optional.of(calendar.freeRanges(toSeconds(from), end).stream()
+				.map(range -> AvailabilitySlotDto.builder()
+						.start(toDateTime(range.start()))
+						.end(toDateTime(range.end()))
+						.build())
+				.toList());
+	}
+
+	public void update(Booking booking) {
+		if (itemLockManager.isClusterWide()) {
+			return;
+		}
+		Long itemId = booking.getItem().getId();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status == STATUS_COMMITTED) {
+						apply(itemId, booking);
+					} else {
+						evict(itemId);
+					}
+				}
+			});
+		}
+		apply(itemId, booking);
+	}
+
+	public void evict(Long itemId) {
+		calendars.invalidate(itemId);
+	}
+
+	public void clear() {
+		calendars.invalidateAll();
+	}
+
+	private OccupancyCalendar getCalendar(Long itemId, long end) {
+		OccupancyCalendar calendar = calendars.getIfPresent(itemId);
+		if (calendar != null && calendar.covers(end)) {
+			return calendar;
+		}
+		OccupancyCalendar loaded = load(itemId);
+		if (loaded == null) {
+			return null;
+		}
+		return calendars.asMap().merge(itemId, loaded, (current, fresh) -> current.covers(end) ? current : fresh);
+	}
+
+	private void apply(Long itemId, Booking booking) {
+		long start = toSeconds(booking.getStart());
+		long end = toSeconds(booking.getEnd());
+		boolean active = BookingIntervalIndex.ACTIVE_STATUSES.contains(booking.getStatus());
+		calendars.asMap().computeIfPresent(itemId, (id, calendar) -> {
+			if (active) {
+				calendar.put(booking.getId(), start, end);
+			} else {
+				calendar.remove(booking.getId());
+			}
+			return calendar;
+		});
+	}
+
+	private OccupancyCalendar load(Long itemId) {
+		Optional<Boolean> itemAvailable = itemRepository.findIsAvailableById(itemId);
+		if (itemAvailable.isEmpty()) {
+			return null;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		OccupancyCalendar calendar = new OccupancyCalendar(toSeconds(now), HORIZON_HOURS, itemAvailable.get());
+		bookingRepository.findAllIntervalsByItemId(itemId, BookingIntervalIndex.ACTIVE_STATUSES, now)
+				.forEach(interval -> calendar.put(interval.getId(), toSeconds(interval.getStart()), toSeconds(interval.getEnd())));
+		return calendar;
+	}
+
+	private static long toSeconds(LocalDateTime dateTime) {
+		return dateTime.toEpochSecond(ZoneOffset.UTC);
+	}
+
+	private static LocalDateTime toDateTime(long seconds) {
+		return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+	}
+}
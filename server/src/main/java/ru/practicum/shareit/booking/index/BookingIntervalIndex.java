@@ -0,0 +1,91 @@
+package ru.practicum.shareit.booking.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Component
+public class BookingIntervalIndex {
+
+	public static final Set<BookingStatus> ACTIVE_STATUSES = EnumSet.of(BookingStatus.WAITING, BookingStatus.APPROVED);
+
+	private final BookingRepository bookingRepository;
+
+	private final Cache<Long, IntervalTree> trees;
+
+	public BookingIntervalIndex(BookingRepository bookingRepository,
+								@Value("${shareit.booking.index.maximum-size:10000}") long maximumSize,
+								@Value("${shareit.booking.index.expire-after-access:PT30M}") Duration expireAfterAccess) {
+		this.bookingRepository = bookingRepository;
+		this.trees = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterAccess(expireAfterAccess)
+				.build();
+	}
+
+	public boolean overlaps(Long itemId, LocalDateTime start, LocalDateTime end) {
+		return getTree(itemId).overlaps(toSeconds(start), toSeconds(end));
+	}
+
+	public void update(Booking booking) {
+		Long itemId = booking.getItem().getId();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						evict(itemId);
+					}
+				}
+			});
+		}
+		IntervalTree tree = getTree(itemId);
+		if (ACTIVE_STATUSES.contains(booking.getStatus())) {
+			tree.put(booking.getId(), toSeconds(booking.getStart()), toSeconds(booking.getEnd()));
+		} else {
+			tree.remove(booking.getId(), toSeconds(booking.getStart()));
+		}
+		tree.removeEndedBefore(toSeconds(LocalDateTime.now()));
+	}
+
+	public void evict(Long itemId) {
+		trees.invalidate(itemId);
+	}
+
+	public void clear() {
+		trees.invalidateAll();
+	}
+
+	private IntervalTree getTree(Long itemId) {
+		IntervalTree tree = trees.getIfPresent(itemId);
+		if (tree != null) {
+			return tree;
+		}
+		IntervalTree loaded = load(itemId);
+		tree = trees.asMap().putIfAbsent(itemId, loaded);
+		return tree == null ? loaded : tree;
+	}
+
+	private IntervalTree load(Long itemId) {
+		IntervalTree tree = new IntervalTree();
+		bookingRepository.findAllIntervalsByItemId(itemId, ACTIVE_STATUSES, LocalDateTime.now())
+				.forEach(interval -> tree.put(interval.getId(), toSeconds(interval.getStart()), toSeconds(interval.getEnd())));
+		return tree;
+	}
+
+	private static long toSeconds(LocalDateTime dateTime) {
+		return dateTime.toEpochSecond(ZoneOffset.UTC);
+	}
+}
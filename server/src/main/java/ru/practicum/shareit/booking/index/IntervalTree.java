@@ -0,0 +1,191 @@
+package ru.practicum.shareit.booking.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Интервальное дерево полуоткрытых отрезков [start, end) на базе AVL-дерева,
+ * упорядоченного по (start, id) и дополненного максимумом end в поддереве.
+ */
+public class IntervalTree {
+
+	private Node root;
+
+	private int size;
+
+	public synchronized void put(long id, long start, long end) {
+		root = insert(root, id, start, end);
+	}
+
+	public synchronized void remove(long id, long start) {
+		root = delete(root, id, start);
+	}
+
+	public synchronized int removeEndedBefore(long time) {
+		List<Node> ended = new ArrayList<>();
+		collectEndedBefore(root, time, ended);
+		for (Node node : ended) {
+			root = delete(root, node.id, node.start);
+		}
+		return ended.size();
+	}
+
+	public synchronized boolean overlaps(long start, long end) {
+		Node node = root;
+		while (node != null) {
+			if (node.start < end && start < node.end) {
+				return true;
+			}
+			node = node.left != null && node.left.maxEnd > start ? node.left : node.right;
+		}
+		return false;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	private static void collectEndedBefore(Node node, long time, List<Node> ended) {
+		if (node == null) {
+			return;
+		}
+		collectEndedBefore(node.left, time, ended);
+		if (node.start < time) {
+			if (node.end <= time) {
+				ended.add(node);
+			}
+			collectEndedBefore(node.right, time, ended);
+		}
+	}
+
+	private Node insert(Node node, long id, long start, long end) {
+		if (node == null) {
+			size++;
+			return new Node(id, start, end);
+		}
+		int cmp = compare(start, id, node);
+		if (cmp < 0) {
+			node.left = insert(node.left, id, start, end);
+		} else if (cmp > 0) {
+			node.right = insert(node.right, id, start, end);
+		} else {
+			node.end = end;
+		}
+		return balance(node);
+	}
+
+	private Node delete(Node node, long id, long start) {
+		if (node == null) {
+			return null;
+		}
+		int cmp = compare(start, id, node);
+		if (cmp < 0) {
+			node.left = delete(node.left, id, start);
+		} else if (cmp > 0) {
+			node.right = delete(node.right, id, start);
+		} else {
+			size--;
+			if (node.left == null) {
+				return node.right;
+			}
+			if (node.right == null) {
+				return node.left;
+			}
+			Node successor = node.right;
+			while (successor.left != null) {
+				successor = successor.left;
+			}
+			successor.right = deleteMin(node.right);
+			successor.left = node.left;
+			node = successor;
+		}
+		return balance(node);
+	}
+
+	private Node deleteMin(Node node) {
+		if (node.left == null) {
+			return node.right;
+		}
+		node.left = deleteMin(node.left);
+		return balance(node);
+	}
+
+	private Node balance(Node node) {
+		update(node);
+		int balance = height(node.left) - height(node.right);
+		if (balance > 1) {
+			if (height(node.left.left) < height(node.left.right)) {
+				node.left = rotateLeft(node.left);
+			}
+			return rotateRight(node);
+		}
+		if (balance < -1) {
+			if (height(node.right.right) < height(node.right.left)) {
+				node.right = rotateRight(node.right);
+			}
+			return rotateLeft(node);
+		}
+		return node;
+	}
+
+	private Node rotateRight(Node node) {
+		Node left = node.left;
+		node.left = left.right;
+		left.right = node;
+		update(node);
+		update(left);
+		return left;
+	}
+
+	private Node rotateLeft(Node node) {
+		Node right = node.right;
+		node.right = right.left;
+		right.left = node;
+		update(node);
+		update(right);
+		return right;
+	}
+
+	private static void update(Node node) {
+		node.height = 1 + Math.max(height(node.left), height(node.right));
+		node.maxEnd = Math.max(node.end, Math.max(maxEnd(node.left), maxEnd(node.right)));
+	}
+
+	private static int height(Node node) {
+		return node == null ? 0 : node.height;
+	}
+
+	private static long maxEnd(Node node) {
+		return node == null ? Long.MIN_VALUE : node.maxEnd;
+	}
+
+	private static int compare(long start, long id, Node node) {
+		int cmp = Long.compare(start, node.start);
+		return cmp != 0 ? cmp : Long.compare(id, node.id);
+	}
+
+	private static final class Node {
+
+		private final long id;
+
+		private final long start;
+
+		private long end;
+
+		private long maxEnd;
+
+		private int height;
+
+		private Node left;
+
+		private Node right;
+
+		private Node(long id, long start, long end) {
+			this.id = id;
+			this.start = start;
+			this.end = end;
+			this.maxEnd = end;
+			this.height = 1;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package ru.practicum.shareit.booking.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Почасовая карта занятости предмета: бит i соответствует часу baseHour + i
+ * и установлен, если этот час пересекается хотя бы с одним активным бронированием.
+ * Хранятся только часы в пределах горизонта, начиная с момента построения карты.
+ */
+public class OccupancyCalendar {
+
+	private static final long SECONDS_PER_HOUR = 3600;
+
+	private final long baseHour;
+
+	private final int horizonHours;
+
+	private final boolean itemAvailable;
+
+	private final BitSet occupied = new BitSet();
+
+	private final Map<Long, int[]> bookings = new HashMap<>();
+
+	public OccupancyCalendar(long baseSecond, int horizonHours, boolean itemAvailable) {
+		this.baseHour = Math.floorDiv(baseSecond, SECONDS_PER_HOUR);
+		this.horizonHours = horizonHours;
+		this.itemAvailable = itemAvailable;
+	}
+
+	public synchronized void put(long id, long start, long end) {
+		remove(id);
+		int first = toIndex(Math.floorDiv(start, SECONDS_PER_HOUR));
+		int last = toIndex(Math.ceilDiv(end, SECONDS_PER_HOUR));
+		if (first < last) {
+			bookings.put(id, new int[]{first, last});
+			occupied.set(first, last);
+		}
+	}
+
+	public synchronized void remove(long id) {
+		int[] range = bookings.remove(id);
+		if (range == null) {
+			return;
+		}
+		occupied.clear(range[0], range[1]);
+		for (int[] other : bookings.values()) {
+			if (other[0] < range[1] && range[0] < other[1]) {
+				occupied.set(Math.max(other[0], range[0]), Math.min(other[1], range[1]));
+			}
+		}
+	}
+
+	public boolean covers(long end) {
+		return Math.ceilDiv(end, SECONDS_PER_HOUR) - baseHour <= horizonHours;
+	}
+
+	public synchronized List<Range> freeRanges(long from, long to) {
+		List<Range> ranges = new ArrayList<>();
+		long start = Math.max(from, baseHour * SECONDS_PER_HOUR);
+		if (!itemAvailable || start >= to) {
+			return ranges;
+		}
+		int last = toIndex(Math.ceilDiv(to, SECONDS_PER_HOUR));
+		int hour = occupied.nextClearBit(toIndex(Math.floorDiv(start, SECONDS_PER_HOUR)));
+		while (hour < last) {
+			int next = occupied.nextSetBit(hour);
+			int end = next < 0 || next > last ? last : next;
+			ranges.add(new Range(Math.max(start, toSecond(hour)), Math.min(to, toSecond(end))));
+			hour = occupied.nextClearBit(end);
+		}
+		return ranges;
+	}
+
+	public synchronized int cardinality() {
+		return occupied.cardinality();
+	}
+
+	private int toIndex(long hour) {
+		return Math.clamp(hour - baseHour, 0, horizonHours);
+	}
+
+	private long toSecond(int index) {
+		return (baseHour + index) * SECONDS_PER_HOUR;
+	}
+
+	public record Range(long start, long end) {
+	}
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.booking.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnProperty(name = "shareit.booking.lock.mode", havingValue = "advisory")
+@RequiredArgsConstructor
+public class AdvisoryItemLockManager implements ItemLockManager {
+
+	private static final int BOOKING_LOCK_NAMESPACE = 1001;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	@Override
+	public <T> T executeLocked(Long itemId, Supplier<T> action) {
+		return transactionTemplate.execute(status -> {
+			jdbcTemplate.query("select pg_advisory_xact_lock(?, ?)",
+					rs -> null,
+					BOOKING_LOCK_NAMESPACE, Long.hashCode(itemId));
+			return action.get();
+		});
+	}
+
+	@Override
+	public boolean isClusterWide() {
+		return true;
+	}
+}
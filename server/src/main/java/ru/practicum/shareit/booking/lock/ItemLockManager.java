@@ -0,0 +1,10 @@
+package ru.practicum.shareit.booking.lock;
+
+import java.util.function.Supplier;
+
+public interface ItemLockManager {
+
+	<T> T executeLocked(Long itemId, Supplier<T> action);
+
+	boolean isClusterWide();
+}
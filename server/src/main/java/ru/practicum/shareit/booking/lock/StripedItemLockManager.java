@@ -0,0 +1,46 @@
+package ru.practicum.shareit.booking.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnProperty(name = "shareit.booking.lock.mode", havingValue = "local", matchIfMissing = true)
+public class StripedItemLockManager implements ItemLockManager {
+
+	private final ReentrantLock[] stripes;
+
+	private final TransactionTemplate transactionTemplate;
+
+	public StripedItemLockManager(@Value("${shareit.booking.lock.stripes:64}") int stripeCount,
+								  TransactionTemplate transactionTemplate) {
+		if (stripeCount <= 0) {
+			throw new IllegalArgumentException("Количество блокировок должно быть больше нуля");
+		}
+		this.stripes = new ReentrantLock[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			stripes[i] = new ReentrantLock();
+		}
+		this.transactionTemplate = transactionTemplate;
+	}
+
+	@Override
+	public <T> T executeLocked(Long itemId, Supplier<T> action) {
+		ReentrantLock lock = stripes[Math.floorMod(Long.hashCode(itemId), stripes.length)];
+		lock.lock();
+		try {
+			return transactionTemplate.execute(status -> action.get());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isClusterWide() {
+		return false;
+	}
+}
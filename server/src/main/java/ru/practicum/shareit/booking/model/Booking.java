@@ -4,15 +4,22 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
@@ -22,12 +29,25 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@NamedEntityGraph(
+		name = Booking.DETAILS_GRAPH,
+		attributeNodes = {
+				@NamedAttributeNode("booker"),
+				@NamedAttributeNode(value = "item", subgraph = "item")
+		},
+		subgraphs = {
+				@NamedSubgraph(name = "item", attributeNodes = @NamedAttributeNode(value = "request", subgraph = "request")),
+				@NamedSubgraph(name = "request", attributeNodes = @NamedAttributeNode("requestor"))
+		})
 @Entity
 @Table(name = "bookings")
 public class Booking {
 
+	public static final String DETAILS_GRAPH = "Booking.details";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+	@SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(name = "start_date", nullable = false)
@@ -36,10 +56,14 @@ public class Booking {
 	@Column(name = "end_date", nullable = false)
 	private LocalDateTime end;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	private Item item;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	private User booker;
 
 	@Enumerated(EnumType.STRING)
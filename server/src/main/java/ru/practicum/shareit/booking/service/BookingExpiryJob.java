@@ -0,0 +1,92 @@
+package ru.practicum.shareit.booking.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.index.BookingCalendarIndex;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dao.ItemRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class BookingExpiryJob {
+
+	private final BookingRepository bookingRepository;
+
+	private final ItemRepository itemRepository;
+
+	private final BookingIntervalIndex bookingIntervalIndex;
+
+	private final BookingCalendarIndex bookingCalendarIndex;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final int batchSize;
+
+	public BookingExpiryJob(BookingRepository bookingRepository,
+							ItemRepository itemRepository,
+							BookingIntervalIndex bookingIntervalIndex,
+							BookingCalendarIndex bookingCalendarIndex,
+							TransactionTemplate transactionTemplate,
+							@Value("${shareit.booking.expiry.batch-size:100}") int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Размер пакета должен быть больше нуля");
+		}
+		this.bookingRepository = bookingRepository;
+		this.itemRepository = itemRepository;
+		this.bookingIntervalIndex = bookingIntervalIndex;
+		this.bookingCalendarIndex = bookingCalendarIndex;
+		this.transactionTemplate = transactionTemplate;
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(fixedDelayString = "${shareit.booking.expiry.interval:PT1M}")
+	public int expireStaleBookings() {
+		LocalDateTime now = LocalDateTime.now();
+		int expired = 0;
+		int batch;
+		do {
+			batch = expireBatch(now);
+			expired += batch;
+		} while (batch == batchSize);
+		return expired;
+	}
+
+	private int expireBatch(LocalDateTime now) {
+		List<Booking> bookings = transactionTemplate.execute(status -> {
+			List<Booking> stale = bookingRepository.findAllByStatusAndStartBeforeSkipLocked(
+					BookingStatus.WAITING, now, Limit.of(batchSize));
+			if (!stale.isEmpty()) {
+				bookingRepository.updateStatusByIdIn(bookingIds(stale), BookingStatus.EXPIRED);
+				itemRepository.refreshBookingDatesByIdIn(LocalDateTime.now(), itemIds(stale));
+			}
+			return stale;
+		});
+		itemIds(bookings).forEach(itemId -> {
+			bookingIntervalIndex.evict(itemId);
+			bookingCalendarIndex.evict(itemId);
+		});
+		return bookings.size();
+	}
+
+	private static List<Long> bookingIds(List<Booking> bookings) {
+		return bookings.stream()
+				.map(Booking::getId)
+				.toList();
+	}
+
+	private static Set<Long> itemIds(List<Booking> bookings) {
+		return bookings.stream()
+				.map(booking -> booking.getItem().getId())
+				.collect(Collectors.toSet());
+	}
+}
@@ -3,8 +3,7 @@ package ru.practicum.shareit.booking.service;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.model.BookingState;
-
-import java.util.Collection;
+import ru.practicum.shareit.pagination.CursorPage;
 
 public interface BookingService {
 
@@ -14,7 +13,7 @@ public interface BookingService {
 
 	BookingDto approveBooking(Long bookingId, Long userId, Boolean approved);
 
-	Collection<BookingDto> getBookingsByUserIdAndState(Long userId, BookingState bookingState);
+	CursorPage<BookingDto> getBookingsByUserIdAndState(Long userId, BookingState bookingState, String cursor, int from, int size);
 
-	Collection<BookingDto> getBookingsByItemOwnerIdAndState(Long userId, BookingState bookingState);
+	CursorPage<BookingDto> getBookingsByItemOwnerIdAndState(Long userId, BookingState bookingState, String cursor, int from, int size);
 }
@@ -1,10 +1,19 @@
 package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dao.BookingOverlapConstraint;
+import ru.practicum.shareit.booking.dao.BookingQuery;
 import ru.practicum.shareit.booking.dao.BookingRepository;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.index.BookingCalendarIndex;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
+import ru.practicum.shareit.booking.lock.ItemLockManager;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
@@ -12,14 +21,18 @@ import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.exception.ConditionsNotMetException;
 import ru.practicum.shareit.exception.NoRightsException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.CommentEligibilityCache;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserExistenceCache;
 
 import java.time.LocalDateTime;
-import java.util.Collection;
-import java.util.Objects;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +41,7 @@ public class BookingServiceImpl implements BookingService {
 	private static final String NOT_FOUND_BOOKING_BY_ID = "Запрос бронирования не найден: ID = %d";
 	private static final String NOT_FOUND_USER_BY_ID = "Пользователь не найден: ID = %d";
 	private static final String NOT_FOUND_ITEM_BY_ID = "Элемент не найден: ID = %d";
+	private static final String OVERLAPPING_BOOKING = "Данное время уже занято для бронирования элемента";
 
 	private final BookingRepository bookingRepository;
 
@@ -35,72 +49,109 @@ public class BookingServiceImpl implements BookingService {
 
 	private final ItemRepository itemRepository;
 
+	private final BookingIntervalIndex bookingIntervalIndex;
+
+	private final BookingCalendarIndex bookingCalendarIndex;
+
+	private final ItemLockManager itemLockManager;
+
+	private final UserExistenceCache userExistenceCache;
+
+	private final CommentEligibilityCache commentEligibilityCache;
+
 	@Override
+	@Transactional(readOnly = true)
 	public BookingDto getBooking(Long bookingId, Long userId) {
-		Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> new NotFoundException(NOT_FOUND_BOOKING_BY_ID, bookingId));
-		if (Objects.equals(booking.getBooker().getId(), userId) || Objects.equals(booking.getItem().getOwner().getId(), userId)) {
-			return BookingMapper.toBookingDto(booking);
-		}
-		throw new NotFoundException(NOT_FOUND_BOOKING_BY_ID, bookingId);
+		return bookingRepository.findDtoByIdAndParticipantId(bookingId, userId)
+				.orElseThrow(() -> new NotFoundException(NOT_FOUND_BOOKING_BY_ID, bookingId));
 	}
 
 	@Override
 	public BookingDto addBooking(BookingRequestDto bookingRequestDto, Long ownerId) {
-		User user = userRepository.findById(ownerId)
-				.orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_BY_ID, ownerId));
-		Item item = itemRepository.findById(bookingRequestDto.getItemId())
-				.orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM_BY_ID, bookingRequestDto.getItemId()));
-		Booking booking = BookingMapper.fromBookingDto(bookingRequestDto, user, item);
-		bookingValidate(booking);
-		booking.setStatus(BookingStatus.WAITING);
-		return BookingMapper.toBookingDto(bookingRepository.saveAndFlush(booking));
+		return itemLockManager.executeLocked(bookingRequestDto.getItemId(), () -> {
+			User user = userRepository.findById(ownerId)
+					.orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_BY_ID, ownerId));
+			Item item = itemRepository.findWithRequestById(bookingRequestDto.getItemId())
+					.orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM_BY_ID, bookingRequestDto.getItemId()));
+			Booking booking = BookingMapper.fromBookingDto(bookingRequestDto, user, item);
+			bookingValidate(booking);
+			booking.setStatus(BookingStatus.WAITING);
+			Booking savedBooking = saveBooking(booking);
+			bookingIntervalIndex.update(savedBooking);
+			bookingCalendarIndex.update(savedBooking);
+			itemRepository.refreshBookingDates(LocalDateTime.now(), item.getId());
+			return BookingMapper.toBookingDto(savedBooking);
+		});
 	}
 
 	@Override
 	public BookingDto approveBooking(Long bookingId, Long ownerId, Boolean approved) {
-		Booking booking = bookingRepository.findByIdAndItemOwnerId(bookingId, ownerId).orElseThrow(NoRightsException::new);
-		booking.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
-		return BookingMapper.toBookingDto(bookingRepository.saveAndFlush(booking));
+		Long itemId = bookingRepository.findItemIdById(bookingId).orElseThrow(NoRightsException::new);
+		return itemLockManager.executeLocked(itemId, () -> {
+			bookingRepository.findForUpdateById(bookingId).orElseThrow(NoRightsException::new);
+			Booking booking = bookingRepository.findByIdAndItemOwnerId(bookingId, ownerId).orElseThrow(NoRightsException::new);
+			if (booking.getStatus() == BookingStatus.EXPIRED) {
+				throw new ConditionsNotMetException("Срок подтверждения бронирования истёк");
+			}
+			if (approved && !BookingIntervalIndex.ACTIVE_STATUSES.contains(booking.getStatus())) {
+				overlapValidate(booking);
+			}
+			booking.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
+			Booking savedBooking = saveBooking(booking);
+			bookingIntervalIndex.update(savedBooking);
+			bookingCalendarIndex.update(savedBooking);
+			itemRepository.refreshBookingDates(LocalDateTime.now(), itemId);
+			if (!approved) {
+				evictCommentEligibilityAfterCommit(savedBooking.getBooker().getId(), itemId);
+			}
+			return BookingMapper.toBookingDto(savedBooking);
+		});
 	}
 
 	@Override
-	public Collection<BookingDto> getBookingsByUserIdAndState(Long userId, BookingState bookingState) {
-		Collection<Booking> bookings = switch (bookingState) {
-			case ALL -> bookingRepository.findAllByBookerIdOrderByStartDesc(userId);
-			case PAST -> bookingRepository.findAllByBookerIdAndEndBeforeOrderByStartDesc(userId, LocalDateTime.now());
-			case CURRENT ->
-					bookingRepository.findAllByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(userId, LocalDateTime.now(), LocalDateTime.now());
-			case FUTURE ->
-					bookingRepository.findAllByBookerIdAndStartAfterOrderByStartDesc(userId, LocalDateTime.now());
-			case WAITING -> bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(userId, BookingStatus.WAITING);
-			case REJECTED ->
-					bookingRepository.findAllByBookerIdAndStatusOrderByStartDesc(userId, BookingStatus.REJECTED);
-		};
-		return bookings.stream()
-				.map(BookingMapper::toBookingDto)
-				.toList();
+	@Transactional(readOnly = true)
+	public CursorPage<BookingDto> getBookingsByUserIdAndState(Long userId, BookingState bookingState, String cursor, int from, int size) {
+		return findBookings(BookingQuery.builder()
+				.bookerId(userId)
+				.state(bookingState), cursor, from, size);
 	}
 
 	@Override
-	public Collection<BookingDto> getBookingsByItemOwnerIdAndState(Long userId, BookingState bookingState) {
-		userRepository.findById(userId)
-				.orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_BY_ID, userId));
-		Collection<Booking> bookings = switch (bookingState) {
-			case ALL -> bookingRepository.findAllByItemOwnerIdOrderByStartDesc(userId);
-			case PAST ->
-					bookingRepository.findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(userId, LocalDateTime.now());
-			case CURRENT ->
-					bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(userId, LocalDateTime.now(), LocalDateTime.now());
-			case FUTURE ->
-					bookingRepository.findAllByItemOwnerIdAndStartAfterOrderByStartDesc(userId, LocalDateTime.now());
-			case WAITING ->
-					bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(userId, BookingStatus.WAITING);
-			case REJECTED ->
-					bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(userId, BookingStatus.REJECTED);
-		};
-		return bookings.stream()
-				.map(BookingMapper::toBookingDto)
-				.toList();
+	@Transactional(readOnly = true)
+	public CursorPage<BookingDto> getBookingsByItemOwnerIdAndState(Long userId, BookingState bookingState, String cursor, int from, int size) {
+		if (!userExistenceCache.exists(userId)) {
+			throw new NotFoundException(NOT_FOUND_USER_BY_ID, userId);
+		}
+		return findBookings(BookingQuery.builder()
+				.ownerId(userId)
+				.state(bookingState), cursor, from, size);
+	}
+
+	private CursorPage<BookingDto> findBookings(BookingQuery.BookingQueryBuilder queryBuilder, String cursor, int from, int size) {
+		if (from < 0) {
+			throw new ValidationException("Параметр from не может быть отрицательным");
+		}
+		if (size <= 0) {
+			throw new ValidationException("Параметр size должен быть больше нуля");
+		}
+		List<BookingDto> bookings = bookingRepository.findAllByQuery(queryBuilder
+				.now(LocalDateTime.now())
+				.cursor(cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor))
+				.offset(from)
+				.limit(size + 1)
+				.build());
+
+		if (bookings.size() <= size) {
+			return CursorPage.<BookingDto>builder()
+					.content(bookings)
+					.build();
+		}
+		List<BookingDto> content = bookings.subList(0, size);
+		BookingDto last = content.getLast();
+		return CursorPage.<BookingDto>builder()
+				.content(content)
+				.nextCursor(new PageCursor(last.getStart(), last.getId()).encode())
+				.build();
 	}
 
 	private void bookingValidate(Booking booking) {
@@ -108,13 +159,40 @@ public class BookingServiceImpl implements BookingService {
 				|| booking.getStart().isEqual(booking.getEnd())) {
 			throw new ConditionsNotMetException("Дата начала бронирования не может быть позже или равна дате окончания");
 		}
-		if (bookingRepository
-				.findByItemIdAndStartBeforeAndEndAfter(booking.getId(), booking.getStart(), booking.getEnd())
-				.isPresent()) {
-			throw new ConditionsNotMetException("Данное время уже занято для бронирования элемента");
-		}
 		if (Boolean.FALSE.equals(booking.getItem().getIsAvailable())) {
 			throw new ConditionsNotMetException("Элемент недоступен для бронирования");
 		}
+		overlapValidate(booking);
+	}
+
+	private void overlapValidate(Booking booking) {
+		if (!itemLockManager.isClusterWide()
+				&& bookingIntervalIndex.overlaps(booking.getItem().getId(), booking.getStart(), booking.getEnd())) {
+			throw new ConditionsNotMetException(OVERLAPPING_BOOKING);
+		}
+	}
+
+	private Booking saveBooking(Booking booking) {
+		try {
+			return bookingRepository.saveAndFlush(booking);
+		} catch (DataIntegrityViolationException e) {
+			if (BookingOverlapConstraint.isViolatedBy(e)) {
+				throw new ConditionsNotMetException(OVERLAPPING_BOOKING);
+			}
+			throw e;
+		}
+	}
+
+	private void evictCommentEligibilityAfterCommit(Long bookerId, Long itemId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			commentEligibilityCache.evict(bookerId, itemId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				commentEligibilityCache.evict(bookerId, itemId);
+			}
+		});
 	}
 }
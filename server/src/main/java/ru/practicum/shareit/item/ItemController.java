@@ -1,6 +1,7 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,12 +16,16 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CreateItemRequest;
+import ru.practicum.shareit.item.dto.CreateItemsRequest;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemOwnerDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 import ru.practicum.shareit.item.service.ItemService;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 
 @RestController
 @RequestMapping("/items")
@@ -40,10 +45,22 @@ public class ItemController {
 		return itemService.getItem(itemId, userId);
 	}
 
+	@GetMapping("/{itemId}/availability")
+	public ItemAvailabilityDto getAvailability(@RequestHeader("X-Sharer-User-Id") long userId,
+											   @PathVariable long itemId,
+											   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+											   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+		return itemService.getAvailability(itemId, userId, from, to);
+	}
+
 	@GetMapping("/search")
 	public Collection<ItemDto> search(@RequestHeader("X-Sharer-User-Id") long userId,
-									  @RequestParam("text") String text) {
-		return itemService.search(text, userId);
+									  @RequestParam("text") String text,
+									  @RequestParam(required = false, defaultValue = "0") int from,
+									  @RequestParam(required = false, defaultValue = "10") int size,
+									  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+									  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+		return itemService.search(text, start, end, userId, from, size);
 	}
 
 	@PostMapping
@@ -53,6 +70,13 @@ public class ItemController {
 		return itemService.addItem(createItemRequest, userId);
 	}
 
+	@PostMapping("/batch")
+	@ResponseStatus(HttpStatus.CREATED)
+	public List<ItemDto> createAll(@RequestHeader("X-Sharer-User-Id") long userId,
+								   @RequestBody CreateItemsRequest createItemsRequest) {
+		return itemService.addItems(createItemsRequest.getItems(), userId);
+	}
+
 	@PostMapping("/{itemId}/comment")
 	@ResponseStatus(HttpStatus.CREATED)
 	public CommentDto createComment(@RequestHeader("X-Sharer-User-Id") long userId,
@@ -1,14 +1,22 @@
 package ru.practicum.shareit.item.dao;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.jdbc.QueryIndexes;
+import ru.practicum.shareit.jdbc.RequiresIndex;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-	List<Comment> findAllByItemIdIn(Set<Long> itemIds);
+	@RequiresIndex(name = QueryIndexes.IX_COMMENTS_ITEM, table = "comments", columns = "item_id")
+	@Query("select comment.id as id, comment.item.id as itemId, comment.author.name as authorName, " +
+			"comment.text as text, comment.created as created " +
+			"from Comment comment " +
+			"where comment.item.id in ?1")
+	List<CommentView> findAllViewsByItemIdIn(Collection<Long> itemIds);
 }
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.dao;
+
+import java.time.LocalDateTime;
+
+public interface CommentView {
+
+	Long getId();
+
+	Long getItemId();
+
+	String getAuthorName();
+
+	String getText();
+
+	LocalDateTime getCreated();
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.item.dao;
+
+public interface ItemForRequestView {
+
+	Long getId();
+
+	String getName();
+
+	Long getOwnerId();
+
+	Long getRequestId();
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.item.dao;
+
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+public interface ItemImportRepository {
+
+	List<Item> insertAll(List<Item> items);
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.item.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+public class ItemImportRepositoryImpl implements ItemImportRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+	private int batchSize;
+
+	@Override
+	@Transactional
+	public List<Item> insertAll(List<Item> items) {
+		for (int i = 0; i < items.size(); i++) {
+			entityManager.persist(items.get(i));
+			if ((i + 1) % batchSize == 0) {
+				entityManager.flush();
+				entityManager.clear();
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+		return items;
+	}
+}
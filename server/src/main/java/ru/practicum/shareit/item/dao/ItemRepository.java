@@ -1,29 +1,87 @@
 package ru.practicum.shareit.item.dao;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.jdbc.QueryIndexes;
+import ru.practicum.shareit.jdbc.RequiresIndex;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemSearchRepository, ItemImportRepository {
 
-	List<Item> findAllByOwnerId(Long ownerId);
+	String SELECT_ITEM_VIEW = "select item.id as id, item.name as name, item.description as description, " +
+			"item.isAvailable as isAvailable, " +
+			"request.id as requestId, request.description as requestDescription, request.created as requestCreated, " +
+			"requestor.id as requestorId, requestor.name as requestorName, requestor.email as requestorEmail, " +
+			"item.lastBookingEnd as lastBooking, item.nextBookingStart as nextBooking " +
+			"from Item item " +
+			"left join item.request request " +
+			"left join request.requestor requestor ";
+
+	String ACTIVE_BOOKING = "from bookings b where b.item_id = items.id and b.status in ('WAITING', 'APPROVED') ";
+
+	String UPDATE_BOOKING_DATES = "update items set " +
+			"last_booking_id = (select b.id " + ACTIVE_BOOKING +
+			"and b.start_date < ?1 and b.end_date > ?1 order by b.end_date desc, b.id limit 1), " +
+			"last_booking_end = (select max(b.end_date) " + ACTIVE_BOOKING +
+			"and b.start_date < ?1 and b.end_date > ?1), " +
+			"next_booking_id = (select b.id " + ACTIVE_BOOKING +
+			"and b.start_date > ?1 order by b.start_date, b.id limit 1), " +
+			"next_booking_start = (select min(b.start_date) " + ACTIVE_BOOKING +
+			"and b.start_date > ?1) ";
 
+	@RequiresIndex(name = QueryIndexes.IX_ITEMS_OWNER, table = "items", columns = "owner_id")
+	@EntityGraph(Item.WITH_REQUEST_GRAPH)
 	Optional<Item> findByIdAndOwnerId(Long id, Long ownerId);
 
-	@Query("select item " +
+	@EntityGraph(Item.WITH_REQUEST_GRAPH)
+	Optional<Item> findWithRequestById(Long id);
+
+	@Query(SELECT_ITEM_VIEW + "where item.id = ?1")
+	Optional<ItemView> findViewById(Long id);
+
+	@Query("select item.isAvailable from Item item where item.id = ?1")
+	Optional<Boolean> findIsAvailableById(Long id);
+
+	@Transactional
+	@Modifying
+	@Query(value = UPDATE_BOOKING_DATES + "where id = ?2", nativeQuery = true)
+	int refreshBookingDates(LocalDateTime now, Long itemId);
+
+	@Transactional
+	@Modifying
+	@Query(value = UPDATE_BOOKING_DATES + "where id in ?2", nativeQuery = true)
+	int refreshBookingDatesByIdIn(LocalDateTime now, Collection<Long> itemIds);
+
+	@RequiresIndex(name = QueryIndexes.IX_ITEMS_NEXT_BOOKING_START, table = "items", columns = "next_booking_start")
+	@RequiresIndex(name = QueryIndexes.IX_ITEMS_LAST_BOOKING_END, table = "items", columns = "last_booking_end")
+	@Query(value = "select id from items " +
+			"where next_booking_start <= ?1 or last_booking_end <= ?1 " +
+			"order by id " +
+			"limit ?2 " +
+			"for update skip locked",
+			nativeQuery = true)
+	List<Long> findIdsWithPassedBookingDatesSkipLocked(LocalDateTime now, int limit);
+
+	@Query(SELECT_ITEM_VIEW + "where item.id in ?1")
+	List<ItemView> findAllViewsByIdIn(Collection<Long> ids);
+
+	@RequiresIndex(name = QueryIndexes.IX_ITEMS_OWNER, table = "items", columns = "owner_id")
+	@Query(SELECT_ITEM_VIEW + "where item.owner.id = ?1")
+	List<ItemView> findAllViewsByOwnerId(Long ownerId);
+
+	@RequiresIndex(name = QueryIndexes.IX_ITEMS_REQUEST, table = "items", columns = "request_id")
+	@Query("select item.id as id, item.name as name, item.owner.id as ownerId, item.request.id as requestId " +
 			"from Item item " +
-			"where item.isAvailable = true " +
-			"and ( " +
-			"lower(item.name) like lower(concat('%', ?1, '%')) " +
-			"or lower(item.description) like lower(concat('%', ?1, '%')) " +
-			")")
-	List<Item> findAllUsingSearch(String name);
-
-	List<Item> findAllByRequestIdIn(Set<Long> requestIds);
+			"where item.request.id in ?1")
+	List<ItemForRequestView> findAllForRequestByRequestIdIn(Collection<Long> requestIds);
 }
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.item.dao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ItemSearchRepository {
+
+	List<Long> findIdsUsingSearch(String text, LocalDateTime start, LocalDateTime end, int offset, int limit);
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit.item.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+public class ItemSearchRepositoryImpl implements ItemSearchRepository {
+
+	private static final String SELECT_MATCHING_ITEMS = "select item.id " +
+			"from items item " +
+			"where item.is_available = true " +
+			"and (lower(item.name) like :pattern or lower(item.description) like :pattern) ";
+
+	private static final String NOT_BOOKED_IN_PERIOD = "and not exists (select 1 from bookings booking " +
+			"where booking.item_id = item.id " +
+			"and booking.start_date < :end " +
+			"and booking.end_date > :start " +
+			"and booking.status in (:statuses)) ";
+
+	private static final String POSTGRESQL_ORDER = "order by greatest(similarity(lower(item.name), :text), " +
+			"similarity(lower(item.description), :text)) desc, " +
+			"item.id " +
+			"limit :limit offset :offset";
+
+	private static final String DEFAULT_ORDER = "order by case when lower(item.name) like :pattern then 0 else 1 end, " +
+			"item.id " +
+			"limit :limit offset :offset";
+
+	private static final List<String> ACTIVE_STATUSES = BookingIntervalIndex.ACTIVE_STATUSES.stream()
+			.map(Enum::name)
+			.toList();
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private volatile Boolean postgresql;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<Long> findIdsUsingSearch(String text, LocalDateTime start, LocalDateTime end, int offset, int limit) {
+		String normalized = text.toLowerCase(Locale.ROOT);
+		boolean ranked = isPostgresql();
+		boolean inPeriod = start != null && end != null;
+		Query query = entityManager.createNativeQuery(SELECT_MATCHING_ITEMS
+				+ (inPeriod ? NOT_BOOKED_IN_PERIOD : "")
+				+ (ranked ? POSTGRESQL_ORDER : DEFAULT_ORDER));
+		if (ranked) {
+			query.setParameter("text", normalized);
+		}
+		if (inPeriod) {
+			query.setParameter("start", start)
+					.setParameter("end", end)
+					.setParameter("statuses", ACTIVE_STATUSES);
+		}
+		return ((List<Number>) query.setParameter("pattern", "%" + escapeLike(normalized) + "%")
+				.setParameter("limit", limit)
+				.setParameter("offset", offset)
+				.getResultList())
+				.stream()
+				.map(Number::longValue)
+				.toList();
+	}
+
+	private boolean isPostgresql() {
+		if (postgresql == null) {
+			postgresql = entityManager.getEntityManagerFactory()
+					.unwrap(SessionFactoryImplementor.class)
+					.getJdbcServices()
+					.getDialect() instanceof PostgreSQLDialect;
+		}
+		return postgresql;
+	}
+
+	private static String escapeLike(String text) {
+		return text.replace("\\", "\\\\")
+				.replace("%", "\\%")
+				.replace("_", "\\_");
+	}
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.item.dao;
+
+import java.time.LocalDateTime;
+
+public interface ItemView {
+
+	Long getId();
+
+	String getName();
+
+	String getDescription();
+
+	Boolean getIsAvailable();
+
+	Long getRequestId();
+
+	String getRequestDescription();
+
+	LocalDateTime getRequestCreated();
+
+	Long getRequestorId();
+
+	String getRequestorName();
+
+	String getRequestorEmail();
+
+	LocalDateTime getLastBooking();
+
+	LocalDateTime getNextBooking();
+}
@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class ItemDto {
 
 	private Long id;
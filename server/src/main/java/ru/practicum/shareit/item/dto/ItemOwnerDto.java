@@ -3,7 +3,7 @@ package ru.practicum.shareit.item.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
-import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
@@ -21,7 +21,7 @@ public class ItemOwnerDto {
 	@JsonProperty("available")
 	private Boolean isAvailable;
 
-	private ItemRequest request;
+	private ItemRequestDto request;
 
 	private LocalDateTime lastBooking;
 
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.item.mapper;
 
+import ru.practicum.shareit.item.dao.CommentView;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Comment;
 
 public class CommentMapper {
@@ -15,6 +17,16 @@ public class CommentMapper {
 				.build();
 	}
 
+	public static CommentDto toCommentDto(CommentView comment, ItemDto item) {
+		return CommentDto.builder()
+				.id(comment.getId())
+				.text(comment.getText())
+				.item(item)
+				.authorName(comment.getAuthorName())
+				.created(comment.getCreated())
+				.build();
+	}
+
 	public static Comment fromCommentDto(CommentDto commentDto) {
 		return Comment.builder()
 				.id(commentDto.getId())
@@ -1,20 +1,23 @@
 package ru.practicum.shareit.item.mapper;
 
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dao.CommentView;
+import ru.practicum.shareit.item.dao.ItemForRequestView;
+import ru.practicum.shareit.item.dao.ItemView;
 import ru.practicum.shareit.item.dto.CreateItemRequest;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemOwnerDto;
-import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.dto.ItemForRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
-import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.Objects;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class ItemMapper {
 
@@ -29,13 +32,23 @@ public class ItemMapper {
 				.build();
 	}
 
-	public static ItemDto toItemDto(Item item, Collection<Comment> comments) {
+	public static ItemDto toItemDto(ItemView item) {
+		return ItemDto.builder()
+				.id(item.getId())
+				.name(item.getName())
+				.description(item.getDescription())
+				.isAvailable(item.getIsAvailable())
+				.request(toItemRequestDto(item))
+				.build();
+	}
+
+	public static ItemDto toItemDto(ItemView item, Collection<CommentView> comments) {
 		ItemDto itemDto = toItemDto(item);
-		itemDto.setComments(
-				comments.stream()
-						.map(CommentMapper::toCommentDto)
-						.toList());
-		return itemDto;
+		return itemDto.toBuilder()
+				.comments(comments.stream()
+						.map(comment -> CommentMapper.toCommentDto(comment, itemDto))
+						.toList())
+				.build();
 	}
 
 	public static Item fromItemDto(ItemDto itemDto) {
@@ -57,42 +70,61 @@ public class ItemMapper {
 				.build();
 	}
 
-	public static ItemOwnerDto toItemOwnerDto(Item item, Collection<Booking> bookings, Collection<Comment> comments) {
+	public static ItemOwnerDto toItemOwnerDto(ItemView item, Collection<CommentView> comments) {
 		ItemOwnerDto itemOwnerDto = ItemOwnerDto.builder()
 				.id(item.getId())
 				.name(item.getName())
 				.description(item.getDescription())
 				.isAvailable(item.getIsAvailable())
-				.request(item.getRequest())
+				.request(toItemRequestDto(item))
+				.lastBooking(item.getLastBooking())
+				.nextBooking(item.getNextBooking())
 				.build();
 
-		LocalDateTime localDateTime = LocalDateTime.now();
-
-		bookings.stream()
-				.filter(booking -> booking.getItem().getId().equals(item.getId()))
-				.filter(booking -> booking.getStart().isBefore(localDateTime) && booking.getEnd().isAfter(localDateTime))
-				.findFirst()
-				.ifPresent(booking -> itemOwnerDto.setLastBooking(booking.getEnd()));
-
-		bookings.stream()
-				.filter(booking -> booking.getItem().getId().equals(item.getId()))
-				.filter(booking -> booking.getStart().isAfter(localDateTime))
-				.min(Comparator.comparing(Booking::getStart))
-				.ifPresent(booking -> itemOwnerDto.setNextBooking(booking.getStart()));
-
+		ItemDto commentItem = toItemDto(item);
 		itemOwnerDto.setComments(comments.stream()
-				.filter(comment -> Objects.equals(item.getId(), comment.getItem().getId()))
-				.map(CommentMapper::toCommentDto)
+				.map(comment -> CommentMapper.toCommentDto(comment, commentItem))
 				.toList());
 
 		return itemOwnerDto;
 	}
 
-	public static ItemForRequestDto toItemForRequestDto(Item item) {
+	public static List<ItemOwnerDto> toItemOwnerDtos(Collection<ItemView> items, Collection<CommentView> comments) {
+		Map<Long, List<CommentView>> commentsByItemId = comments.stream()
+				.collect(Collectors.groupingBy(CommentView::getItemId));
+		return items.stream()
+				.map(item -> toItemOwnerDto(
+						item,
+						commentsByItemId.getOrDefault(item.getId(), List.of())))
+				.toList();
+	}
+
+	public static Map<Long, List<ItemForRequestView>> groupByRequestId(Collection<ItemForRequestView> items) {
+		return items.stream()
+				.collect(Collectors.groupingBy(ItemForRequestView::getRequestId));
+	}
+
+	public static ItemForRequestDto toItemForRequestDto(ItemForRequestView item) {
 		return ItemForRequestDto.builder()
-				.id(item.getRequest().getId())
-				.ownerId(item.getRequest().getId())
+				.id(item.getId())
+				.ownerId(item.getOwnerId())
 				.name(item.getName())
 				.build();
 	}
+
+	private static ItemRequestDto toItemRequestDto(ItemView item) {
+		if (item.getRequestId() == null) {
+			return null;
+		}
+		return ItemRequestDto.builder()
+				.id(item.getRequestId())
+				.description(item.getRequestDescription())
+				.created(item.getRequestCreated())
+				.requestor(UserDto.builder()
+						.id(item.getRequestorId())
+						.name(item.getRequestorName())
+						.email(item.getRequestorEmail())
+						.build())
+				.build();
+	}
 }
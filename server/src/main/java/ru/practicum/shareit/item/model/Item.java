@@ -2,28 +2,44 @@ package ru.practicum.shareit.item.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@NamedEntityGraph(
+		name = Item.WITH_REQUEST_GRAPH,
+		attributeNodes = @NamedAttributeNode(value = "request", subgraph = "request"),
+		subgraphs = @NamedSubgraph(name = "request", attributeNodes = @NamedAttributeNode("requestor")))
 @Entity
 @Table(name = "items")
 public class Item {
 
+	public static final String WITH_REQUEST_GRAPH = "Item.withRequest";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+	@SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(name = "name", nullable = false)
@@ -35,9 +51,25 @@ public class Item {
 	@Column(name = "is_available", nullable = false)
 	private Boolean isAvailable;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	private User owner;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	private ItemRequest request;
+
+	@Column(name = "last_booking_id", insertable = false, updatable = false)
+	private Long lastBookingId;
+
+	@Column(name = "last_booking_end", insertable = false, updatable = false)
+	private LocalDateTime lastBookingEnd;
+
+	@Column(name = "next_booking_id", insertable = false, updatable = false)
+	private Long nextBookingId;
+
+	@Column(name = "next_booking_start", insertable = false, updatable = false)
+	private LocalDateTime nextBookingStart;
 }
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class CommentEligibilityCache {
+
+	public static final String CACHE_NAME = "commentEligibility";
+
+	private final BookingRepository bookingRepository;
+
+	@Cacheable(cacheNames = CACHE_NAME, unless = "!#result")
+	public boolean isEligible(Long userId, Long itemId) {
+		return bookingRepository.existsByBookerIdAndItemIdAndEndBeforeAndStatus(
+				userId, itemId, LocalDateTime.now(), BookingStatus.APPROVED);
+	}
+
+	@CacheEvict(cacheNames = CACHE_NAME)
+	public void evict(Long userId, Long itemId) {
+	}
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.item.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.dao.ItemRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+public class ItemBookingDatesJob {
+
+	private final ItemRepository itemRepository;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final int batchSize;
+
+	public ItemBookingDatesJob(ItemRepository itemRepository,
+							   TransactionTemplate transactionTemplate,
+							   @Value("${shareit.items.booking-dates.batch-size:100}") int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Размер пакета должен быть больше нуля");
+		}
+		this.itemRepository = itemRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(fixedDelayString = "${shareit.items.booking-dates.refresh-interval:PT1M}")
+	public int rollForward() {
+		return rollForward(LocalDateTime.now());
+	}
+
+	public int rollForward(LocalDateTime now) {
+		int refreshed = 0;
+		int batch;
+		do {
+			batch = refreshBatch(now);
+			refreshed += batch;
+		} while (batch == batchSize);
+		return refreshed;
+	}
+
+	private int refreshBatch(LocalDateTime now) {
+		Integer refreshed = transactionTemplate.execute(status -> {
+			List<Long> itemIds = itemRepository.findIdsWithPassedBookingDatesSkipLocked(now, batchSize);
+			if (!itemIds.isEmpty()) {
+				itemRepository.refreshBookingDatesByIdIn(now, itemIds);
+			}
+			return itemIds.size();
+		});
+		return refreshed == null ? 0 : refreshed;
+	}
+}
@@ -2,11 +2,14 @@ package ru.practicum.shareit.item.service;
 
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CreateItemRequest;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemOwnerDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 
 public interface ItemService {
 
@@ -14,13 +17,17 @@ public interface ItemService {
 
 	ItemDto addItem(CreateItemRequest createItemRequest, Long ownerId);
 
+	List<ItemDto> addItems(List<CreateItemRequest> createItemRequests, Long ownerId);
+
 	ItemDto updateItem(Long itemId, UpdateItemRequest item, Long ownerId);
 
 	void deleteItem(Long id, Long ownerId);
 
 	Collection<ItemOwnerDto> getItemsByUser(Long userId);
 
-	Collection<ItemDto> search(String name, Long userId);
+	Collection<ItemDto> search(String name, LocalDateTime start, LocalDateTime end, Long userId, int from, int size);
+
+	ItemAvailabilityDto getAvailability(Long itemId, Long userId, LocalDateTime from, LocalDateTime to);
 
 	CommentDto addComment(CommentDto commentDto, Long itemId, Long userId);
 }
@@ -2,14 +2,20 @@ package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dao.BookingRepository;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.index.BookingCalendarIndex;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
 import ru.practicum.shareit.exception.ConditionsNotMetException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.CommentView;
 import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dao.ItemView;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CreateItemRequest;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemOwnerDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
@@ -21,11 +27,16 @@ import ru.practicum.shareit.request.dao.ItemRequestRepository;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserExistenceCache;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,6 +46,7 @@ public class ItemServiceImpl implements ItemService {
 	private static final String NOT_FOUND_ITEM_BY_ID = "Элемент не найден: ID = %d";
 	private static final String NOT_FOUND_USER_BY_ID = "Пользователь не найден: ID = %d";
 	private static final String NOT_FOUND_ITEM_REQUEST_BY_ID = "Запрос не найден: ID = %d";
+	private static final Duration MAX_AVAILABILITY_PERIOD = Duration.ofDays(366);
 
 	private final ItemRepository itemRepository;
 
@@ -46,11 +58,20 @@ public class ItemServiceImpl implements ItemService {
 
 	private final ItemRequestRepository itemRequestRepository;
 
+	private final BookingIntervalIndex bookingIntervalIndex;
+
+	private final BookingCalendarIndex bookingCalendarIndex;
+
+	private final UserExistenceCache userExistenceCache;
+
+	private final CommentEligibilityCache commentEligibilityCache;
+
 	@Override
+	@Transactional(readOnly = true)
 	public ItemDto getItem(Long id, Long userId) {
-		userRepository.findById(userId).orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_BY_ID, userId));
-		Item item = itemRepository.findById(id).orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM_BY_ID, id));
-		Collection<Comment> comments = commentRepository.findAllByItemIdIn(Set.of(id));
+		validateUserExists(userId);
+		ItemView item = itemRepository.findViewById(id).orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM_BY_ID, id));
+		Collection<CommentView> comments = commentRepository.findAllViewsByItemIdIn(Set.of(id));
 		return ItemMapper.toItemDto(item, comments);
 	}
 
@@ -60,7 +81,7 @@ public class ItemServiceImpl implements ItemService {
 				.orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_BY_ID, ownerId));
 		ItemRequest itemRequest = null;
 		if (createItemRequest.getRequestId() != null) {
-			itemRequest = itemRequestRepository.findById(createItemRequest.getRequestId())
+			itemRequest = itemRequestRepository.findWithRequestorById(createItemRequest.getRequestId())
 					.orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM_REQUEST_BY_ID, createItemRequest.getRequestId()));
 		}
 		return ItemMapper.toItemDto(
@@ -68,6 +89,38 @@ public class ItemServiceImpl implements ItemService {
 						ItemMapper.fromCreateItemRequest(createItemRequest, owner, itemRequest)));
 	}
 
+	@Override
+	@Transactional
+	public List<ItemDto> addItems(List<CreateItemRequest> createItemRequests, Long ownerId) {
+		User owner = userRepository.findById(ownerId)
+				.orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_BY_ID, ownerId));
+		if (createItemRequests.isEmpty()) {
+			return List.of();
+		}
+		Set<Long> requestIds = createItemRequests.stream()
+				.map(CreateItemRequest::getRequestId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		Map<Long, ItemRequest> itemRequests = itemRequestRepository.findAllByIdIn(requestIds).stream()
+				.collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+		requestIds.stream()
+				.filter(requestId -> !itemRequests.containsKey(requestId))
+				.findFirst()
+				.ifPresent(requestId -> {
+					throw new NotFoundException(NOT_FOUND_ITEM_REQUEST_BY_ID, requestId);
+				});
+
+		List<Item> items = createItemRequests.stream()
+				.map(createItemRequest -> ItemMapper.fromCreateItemRequest(
+						createItemRequest,
+						owner,
+						createItemRequest.getRequestId() == null ? null : itemRequests.get(createItemRequest.getRequestId())))
+				.toList();
+		return itemRepository.insertAll(items).stream()
+				.map(ItemMapper::toItemDto)
+				.toList();
+	}
+
 	@Override
 	public ItemDto updateItem(Long itemId, UpdateItemRequest itemRequest, Long userId) {
 		Item item = itemRepository.findByIdAndOwnerId(itemId, userId)
@@ -81,54 +134,100 @@ public class ItemServiceImpl implements ItemService {
 		if (itemRequest.getIsAvailable() != null) {
 			item.setIsAvailable(itemRequest.getIsAvailable());
 		}
-		return ItemMapper.toItemDto(itemRepository.saveAndFlush(item));
+		itemRepository.saveAndFlush(item);
+		bookingCalendarIndex.evict(itemId);
+		return ItemMapper.toItemDto(item);
 	}
 
 	@Override
 	public void deleteItem(Long id, Long userId) {
 		itemRepository.deleteById(id);
+		bookingIntervalIndex.evict(id);
+		bookingCalendarIndex.evict(id);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Collection<ItemOwnerDto> getItemsByUser(Long userId) {
-		userRepository.findById(userId).orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_BY_ID, userId));
-		Collection<Item> items = itemRepository.findAllByOwnerId(userId);
-		Collection<Booking> bookings = bookingRepository.findAllByItemOwnerIdOrderByStartDesc(userId);
-		Collection<Comment> comments = commentRepository.findAllByItemIdIn(
+		validateUserExists(userId);
+		Collection<ItemView> items = itemRepository.findAllViewsByOwnerId(userId);
+		Collection<CommentView> comments = commentRepository.findAllViewsByItemIdIn(
 				items.stream()
-						.map(Item::getId)
+						.map(ItemView::getId)
 						.collect(Collectors.toSet()));
 
-		return items.stream()
-				.map(item -> ItemMapper.toItemOwnerDto(item, bookings, comments))
-				.toList();
+		return ItemMapper.toItemOwnerDtos(items, comments);
 	}
 
 	@Override
-	public Collection<ItemDto> search(String name, Long userId) {
-		userRepository.findById(userId).orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_BY_ID, userId));
+	@Transactional(readOnly = true)
+	public Collection<ItemDto> search(String name, LocalDateTime start, LocalDateTime end, Long userId, int from, int size) {
+		validateUserExists(userId);
+		if (from < 0) {
+			throw new ValidationException("Параметр from не может быть отрицательным");
+		}
+		if (size <= 0) {
+			throw new ValidationException("Параметр size должен быть больше нуля");
+		}
+		if ((start == null) != (end == null)) {
+			throw new ValidationException("Для поиска свободных вещей нужно указать и начало, и окончание периода");
+		}
+		if (start != null && !start.isBefore(end)) {
+			throw new ValidationException("Дата начала периода должна быть раньше даты окончания");
+		}
 		if (name == null || name.isBlank()) {
 			return List.of();
 		}
-		return itemRepository.findAllUsingSearch(name).stream()
+		List<Long> ids = itemRepository.findIdsUsingSearch(name.strip(), start, end, from, size);
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		Map<Long, ItemView> items = itemRepository.findAllViewsByIdIn(ids).stream()
+				.collect(Collectors.toMap(ItemView::getId, Function.identity()));
+		return ids.stream()
+				.map(items::get)
+				.filter(Objects::nonNull)
 				.map(ItemMapper::toItemDto)
 				.toList();
 	}
 
+	@Override
+	public ItemAvailabilityDto getAvailability(Long itemId, Long userId, LocalDateTime from, LocalDateTime to) {
+		validateUserExists(userId);
+		if (!from.isBefore(to)) {
+			throw new ValidationException("Дата начала периода должна быть раньше даты окончания");
+		}
+		if (Duration.between(from, to).compareTo(MAX_AVAILABILITY_PERIOD) > 0) {
+			throw new ValidationException("Период не может превышать " + MAX_AVAILABILITY_PERIOD.toDays() + " дней");
+		}
+		LocalDateTime now = LocalDateTime.now();
+		return ItemAvailabilityDto.builder()
+				.itemId(itemId)
+				.from(from)
+				.to(to)
+				.free(bookingCalendarIndex.findFreeSlots(itemId, from.isBefore(now) ? now : from, to)
+						.orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM_BY_ID, itemId)))
+				.build();
+	}
+
 	@Override
 	public CommentDto addComment(CommentDto commentDto, Long itemId, Long userId) {
 		Comment comment = CommentMapper.fromCommentDto(commentDto);
 		comment.setAuthor(userRepository.findById(userId)
 				.orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_BY_ID, userId)));
-		comment.setItem(itemRepository.findById(itemId)
+		comment.setItem(itemRepository.findWithRequestById(itemId)
 				.orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM_BY_ID, itemId)));
 		comment.setCreated(LocalDateTime.now());
 
-		if (bookingRepository
-				.findAllByBookerIdAndItemIdAndEndBefore(userId, comment.getItem().getId(), LocalDateTime.now())
-				.isEmpty()) {
+		if (!commentEligibilityCache.isEligible(userId, itemId)) {
 			throw new ConditionsNotMetException("Не удалось найти доступных бронирований для добавления комментариев к нему");
 		}
 		return CommentMapper.toCommentDto(commentRepository.saveAndFlush(comment));
 	}
+
+	private void validateUserExists(Long userId) {
+		if (!userExistenceCache.exists(userId)) {
+			throw new NotFoundException(NOT_FOUND_USER_BY_ID, userId);
+		}
+	}
 }
@@ -0,0 +1,111 @@
+package ru.practicum.shareit.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.jdbc.verify-indexes", havingValue = "true", matchIfMissing = true)
+public class IndexCoverageVerifier implements SmartInitializingSingleton {
+
+	private final DataSource dataSource;
+
+	private final List<Repository<?, ?>> repositories;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		List<RequiredIndex> missing;
+		try {
+			missing = findMissing(dataSource, findRequired(repositories));
+		} catch (SQLException e) {
+			throw new IllegalStateException("Не удалось прочитать индексы базы данных", e);
+		}
+		if (!missing.isEmpty()) {
+			throw new IllegalStateException("Не найдены индексы для запросов: " + missing);
+		}
+	}
+
+	static List<RequiredIndex> findRequired(Collection<?> repositories) {
+		return repositories.stream()
+				.flatMap(repository -> ClassUtils.getAllInterfacesAsSet(repository).stream())
+				.flatMap(type -> Arrays.stream(type.getMethods()))
+				.flatMap(method -> Arrays.stream(method.getAnnotationsByType(RequiresIndex.class)))
+				.map(RequiredIndex::of)
+				.distinct()
+				.toList();
+	}
+
+	static List<RequiredIndex> findMissing(DataSource dataSource, Collection<RequiredIndex> required) throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			DatabaseMetaData metaData = connection.getMetaData();
+			Map<String, Collection<List<String>>> indexesByTable = new HashMap<>();
+			List<RequiredIndex> missing = new ArrayList<>();
+			for (RequiredIndex index : required) {
+				Collection<List<String>> indexes = indexesByTable.get(index.table());
+				if (indexes == null) {
+					indexes = readIndexes(connection, metaData, index.table());
+					indexesByTable.put(index.table(), indexes);
+				}
+				if (indexes.stream().noneMatch(index::isCoveredBy)) {
+					missing.add(index);
+				}
+			}
+			return missing;
+		}
+	}
+
+	private static Collection<List<String>> readIndexes(Connection connection, DatabaseMetaData metaData, String table)
+			throws SQLException {
+		String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+		Map<String, TreeMap<Short, String>> columnsByIndex = new HashMap<>();
+		try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName, false, false)) {
+			while (rs.next()) {
+				String indexName = rs.getString("INDEX_NAME");
+				String column = rs.getString("COLUMN_NAME");
+				if (indexName == null || column == null) {
+					continue;
+				}
+				columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+						.put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+			}
+		}
+		return columnsByIndex.values().stream()
+				.map(columns -> List.copyOf(columns.values()))
+				.toList();
+	}
+
+	record RequiredIndex(String name, String table, List<String> columns) {
+
+		static RequiredIndex of(RequiresIndex index) {
+			return new RequiredIndex(index.name(), index.table(), List.of(index.columns()));
+		}
+
+		boolean isCoveredBy(List<String> indexColumns) {
+			return indexColumns.size() >= columns.size()
+					&& indexColumns.subList(0, columns.size()).equals(columns);
+		}
+
+		@Override
+		public String toString() {
+			return name + " " + table + columns;
+		}
+	}
+}
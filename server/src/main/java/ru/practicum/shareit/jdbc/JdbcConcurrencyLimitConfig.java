@@ -0,0 +1,33 @@
+package ru.practicum.shareit.jdbc;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class JdbcConcurrencyLimitConfig {
+
+	@Bean
+	public static BeanPostProcessor jdbcConcurrencyLimiter(Environment environment) {
+		int maxConcurrency = environment.getProperty("shareit.jdbc.max-concurrency", Integer.class,
+				environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+		Duration acquireTimeout = environment.getProperty("shareit.jdbc.acquire-timeout", Duration.class,
+				Duration.ofSeconds(5));
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitingDataSource)) {
+					return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, acquireTimeout);
+				}
+				return bean;
+			}
+		};
+	}
+}
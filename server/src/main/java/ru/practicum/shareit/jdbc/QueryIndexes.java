@@ -0,0 +1,31 @@
+package ru.practicum.shareit.jdbc;
+
+public final class QueryIndexes {
+
+	public static final String UQ_USER_EMAIL = "uq_user_email";
+
+	public static final String IX_ITEMS_OWNER = "ix_items_owner";
+
+	public static final String IX_ITEMS_REQUEST = "ix_items_request";
+
+	public static final String IX_ITEMS_LAST_BOOKING_END = "ix_items_last_booking_end";
+
+	public static final String IX_ITEMS_NEXT_BOOKING_START = "ix_items_next_booking_start";
+
+	public static final String IX_REQUESTS_REQUESTOR_CREATED = "ix_requests_requestor_created";
+
+	public static final String IX_REQUESTS_CREATED = "ix_requests_created";
+
+	public static final String IX_BOOKINGS_ITEM_PERIOD = "ix_bookings_item_period";
+
+	public static final String IX_BOOKINGS_BOOKER_START = "ix_bookings_booker_start";
+
+	public static final String IX_BOOKINGS_BOOKER_ITEM_END_STATUS = "ix_bookings_booker_item_end_status";
+
+	public static final String IX_BOOKINGS_STATUS_START = "ix_bookings_status_start";
+
+	public static final String IX_COMMENTS_ITEM = "ix_comments_item";
+
+	private QueryIndexes() {
+	}
+}
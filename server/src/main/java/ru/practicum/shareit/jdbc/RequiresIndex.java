@@ -0,0 +1,26 @@
+package ru.practicum.shareit.jdbc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(RequiresIndex.List.class)
+public @interface RequiresIndex {
+
+	String name();
+
+	String table();
+
+	String[] columns();
+
+	@Target(ElementType.METHOD)
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface List {
+
+		RequiresIndex[] value();
+	}
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CursorPage<T> {
+
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+	private List<T> content;
+
+	private String nextCursor;
+
+	public ResponseEntity<List<T>> toResponseEntity() {
+		ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+		if (nextCursor != null) {
+			responseBuilder.header(NEXT_CURSOR_HEADER, nextCursor);
+		}
+		return responseBuilder.body(content);
+	}
+}
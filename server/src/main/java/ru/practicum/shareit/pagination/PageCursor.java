@@ -0,0 +1,38 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import ru.practicum.shareit.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Getter
+@RequiredArgsConstructor
+public class PageCursor {
+
+	private static final char SEPARATOR = '|';
+
+	private final LocalDateTime timestamp;
+
+	private final Long id;
+
+	public String encode() {
+		String raw = timestamp.toString() + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static PageCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separatorIndex = raw.lastIndexOf(SEPARATOR);
+			return new PageCursor(
+					LocalDateTime.parse(raw.substring(0, separatorIndex)),
+					Long.parseLong(raw.substring(separatorIndex + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+			throw new ValidationException("Некорректный курсор пагинации: " + token);
+		}
+	}
+}
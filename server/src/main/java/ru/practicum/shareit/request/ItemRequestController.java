@@ -2,18 +2,21 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import java.util.Collection;
+import java.util.List;
 
 @RestController
 @RequestMapping(path = "/requests")
@@ -34,8 +37,10 @@ public class ItemRequestController {
 	}
 
 	@GetMapping("/all")
-	public Collection<ItemRequestDto> getRequestsFromOtherUsers(@RequestHeader("X-Sharer-User-Id") long userId) {
-		return itemRequestService.getItemRequestsFromOtherUsers(userId);
+	public ResponseEntity<List<ItemRequestDto>> getRequestsFromOtherUsers(@RequestHeader("X-Sharer-User-Id") long userId,
+																		  @RequestParam(required = false) String cursor,
+																		  @RequestParam(required = false, defaultValue = "10") int size) {
+		return itemRequestService.getItemRequestsFromOtherUsers(userId, cursor, size).toResponseEntity();
 	}
 
 	@PostMapping
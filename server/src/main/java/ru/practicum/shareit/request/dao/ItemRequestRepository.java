@@ -1,15 +1,53 @@
 package ru.practicum.shareit.request.dao;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.jdbc.QueryIndexes;
+import ru.practicum.shareit.jdbc.RequiresIndex;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
 
-	List<ItemRequest> findAllByRequestorIdOrderByCreatedDesc(Long requestorId);
+	String SELECT_ITEM_REQUEST_VIEW = "select itemRequest.id as id, itemRequest.description as description, " +
+			"itemRequest.created as created, " +
+			"requestor.id as requestorId, requestor.name as requestorName, requestor.email as requestorEmail " +
+			"from ItemRequest itemRequest " +
+			"join itemRequest.requestor requestor ";
 
-	List<ItemRequest> findAllByRequestorIdNotOrderByCreatedDesc(Long requestorId);
+	@EntityGraph(ItemRequest.WITH_REQUESTOR_GRAPH)
+	Optional<ItemRequest> findWithRequestorById(Long id);
+
+	@EntityGraph(ItemRequest.WITH_REQUESTOR_GRAPH)
+	List<ItemRequest> findAllByIdIn(Collection<Long> ids);
+
+	@Query(SELECT_ITEM_REQUEST_VIEW + "where itemRequest.id = ?1")
+	Optional<ItemRequestView> findViewById(Long id);
+
+	@RequiresIndex(name = QueryIndexes.IX_REQUESTS_REQUESTOR_CREATED, table = "requests", columns = {"requestor_id", "created_date"})
+	@Query(SELECT_ITEM_REQUEST_VIEW +
+			"where requestor.id = ?1 " +
+			"order by itemRequest.created desc")
+	List<ItemRequestView> findAllViewsByRequestorId(Long requestorId);
+
+	@RequiresIndex(name = QueryIndexes.IX_REQUESTS_CREATED, table = "requests", columns = "created_date")
+	@Query(SELECT_ITEM_REQUEST_VIEW +
+			"where requestor.id <> ?1 " +
+			"order by itemRequest.created desc, itemRequest.id desc")
+	List<ItemRequestView> findAllViewsByRequestorIdNot(Long requestorId, Limit limit);
+
+	@RequiresIndex(name = QueryIndexes.IX_REQUESTS_CREATED, table = "requests", columns = "created_date")
+	@Query(SELECT_ITEM_REQUEST_VIEW +
+			"where requestor.id <> ?1 " +
+			"and (itemRequest.created < ?2 or (itemRequest.created = ?2 and itemRequest.id < ?3)) " +
+			"order by itemRequest.created desc, itemRequest.id desc")
+	List<ItemRequestView> findAllViewsByRequestorIdNotBefore(Long requestorId, LocalDateTime created, Long id, Limit limit);
 }
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.request.dao;
+
+import java.time.LocalDateTime;
+
+public interface ItemRequestView {
+
+	Long getId();
+
+	String getDescription();
+
+	LocalDateTime getCreated();
+
+	Long getRequestorId();
+
+	String getRequestorName();
+
+	String getRequestorEmail();
+}
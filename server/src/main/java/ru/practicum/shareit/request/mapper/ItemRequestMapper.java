@@ -1,9 +1,11 @@
 package ru.practicum.shareit.request.mapper;
 
+import ru.practicum.shareit.item.dao.ItemForRequestView;
 import ru.practicum.shareit.item.mapper.ItemMapper;
-import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dao.ItemRequestView;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 
@@ -20,13 +22,20 @@ public class ItemRequestMapper {
 				.build();
 	}
 
-	public static ItemRequestDto toItemRequestDto(ItemRequest itemRequest, Collection<Item> items) {
-		ItemRequestDto itemRequestDto = toItemRequestDto(itemRequest);
-		itemRequestDto.setItems(
-				items.stream()
+	public static ItemRequestDto toItemRequestDto(ItemRequestView itemRequest, Collection<ItemForRequestView> items) {
+		return ItemRequestDto.builder()
+				.id(itemRequest.getId())
+				.description(itemRequest.getDescription())
+				.requestor(UserDto.builder()
+						.id(itemRequest.getRequestorId())
+						.name(itemRequest.getRequestorName())
+						.email(itemRequest.getRequestorEmail())
+						.build())
+				.created(itemRequest.getCreated())
+				.items(items.stream()
 						.map(ItemMapper::toItemForRequestDto)
-						.toList());
-		return itemRequestDto;
+						.toList())
+				.build();
 	}
 
 	public static ItemRequest fromItemRequestDto(ItemRequestDto itemRequestDto, User requestor) {
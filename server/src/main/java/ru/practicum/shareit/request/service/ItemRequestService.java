@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.service;
 
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.Collection;
@@ -10,7 +11,7 @@ public interface ItemRequestService {
 
 	Collection<ItemRequestDto> getItemRequests(Long userId);
 
-	Collection<ItemRequestDto> getItemRequestsFromOtherUsers(Long userId);
+	CursorPage<ItemRequestDto> getItemRequestsFromOtherUsers(Long userId, String cursor, int size);
 
 	ItemRequestDto addItemRequest(ItemRequestDto itemRequestDto, Long ownerId);
 }
@@ -1,11 +1,18 @@
 package ru.practicum.shareit.request.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.dao.ItemForRequestView;
 import ru.practicum.shareit.item.dao.ItemRepository;
-import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dao.ItemRequestRepository;
+import ru.practicum.shareit.request.dao.ItemRequestView;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -13,9 +20,8 @@ import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,51 +41,67 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 	private final UserRepository userRepository;
 
 	@Override
+	@Transactional(readOnly = true)
 	public ItemRequestDto getItemRequest(Long id) {
-		ItemRequest itemRequest = itemRequestRepository.findById(id).orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM_REQUEST_BY_ID, id));
-		return ItemRequestMapper.toItemRequestDto(itemRequest, itemRepository.findAllByRequestIdIn(Set.of(id)));
+		ItemRequestView itemRequest = itemRequestRepository.findViewById(id).orElseThrow(() -> new NotFoundException(NOT_FOUND_ITEM_REQUEST_BY_ID, id));
+		return ItemRequestMapper.toItemRequestDto(itemRequest, itemRepository.findAllForRequestByRequestIdIn(Set.of(id)));
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Collection<ItemRequestDto> getItemRequests(Long userId) {
-		Collection<ItemRequest> itemRequests = itemRequestRepository.findAllByRequestorIdOrderByCreatedDesc(userId);
+		Collection<ItemRequestView> itemRequests = itemRequestRepository.findAllViewsByRequestorId(userId);
 		Set<Long> requestIds = itemRequests.stream()
-				.map(ItemRequest::getId)
+				.map(ItemRequestView::getId)
 				.collect(Collectors.toSet());
-		Map<Long, List<Item>> itemsByRequestIds = getItemsByRequestIds(requestIds);
+		Map<Long, List<ItemForRequestView>> itemsByRequestIds = getItemsByRequestIds(requestIds);
 		return itemRequests.stream()
 				.map(itemRequest -> ItemRequestMapper.toItemRequestDto(itemRequest, itemsByRequestIds.getOrDefault(itemRequest.getId(), List.of())))
 				.toList();
 	}
 
 	@Override
-	public Collection<ItemRequestDto> getItemRequestsFromOtherUsers(Long userId) {
-		Collection<ItemRequest> itemRequests = itemRequestRepository.findAllByRequestorIdNotOrderByCreatedDesc(userId);
+	@Transactional(readOnly = true)
+	public CursorPage<ItemRequestDto> getItemRequestsFromOtherUsers(Long userId, String cursor, int size) {
+		if (size <= 0) {
+			throw new ValidationException("Параметр size должен быть больше нуля");
+		}
+		Limit limit = Limit.of(size + 1);
+		List<ItemRequestView> itemRequests;
+		if (cursor == null || cursor.isBlank()) {
+			itemRequests = itemRequestRepository.findAllViewsByRequestorIdNot(userId, limit);
+		} else {
+			PageCursor pageCursor = PageCursor.decode(cursor);
+			itemRequests = itemRequestRepository.findAllViewsByRequestorIdNotBefore(userId, pageCursor.getTimestamp(), pageCursor.getId(), limit);
+		}
+
+		String nextCursor = null;
+		if (itemRequests.size() > size) {
+			itemRequests = itemRequests.subList(0, size);
+			ItemRequestView last = itemRequests.getLast();
+			nextCursor = new PageCursor(last.getCreated(), last.getId()).encode();
+		}
 		Set<Long> requestIds = itemRequests.stream()
-				.map(ItemRequest::getId)
+				.map(ItemRequestView::getId)
 				.collect(Collectors.toSet());
-		Map<Long, List<Item>> itemsByRequestIds = getItemsByRequestIds(requestIds);
-		return itemRequests.stream()
-				.map(itemRequest -> ItemRequestMapper.toItemRequestDto(itemRequest, itemsByRequestIds.getOrDefault(itemRequest.getId(), List.of())))
-				.toList();
+		Map<Long, List<ItemForRequestView>> itemsByRequestIds = getItemsByRequestIds(requestIds);
+		return CursorPage.<ItemRequestDto>builder()
+				.content(itemRequests.stream()
+						.map(itemRequest -> ItemRequestMapper.toItemRequestDto(itemRequest, itemsByRequestIds.getOrDefault(itemRequest.getId(), List.of())))
+						.toList())
+				.nextCursor(nextCursor)
+				.build();
 	}
 
 	@Override
 	public ItemRequestDto addItemRequest(ItemRequestDto itemRequestDto, Long ownerId) {
 		User owner = userRepository.findById(ownerId).orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_BY_ID, ownerId));
 		ItemRequest itemRequest = ItemRequestMapper.fromItemRequestDto(itemRequestDto, owner);
-		itemRequest.setCreated(LocalDateTime.now());
+		itemRequest.setCreated(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
 		return ItemRequestMapper.toItemRequestDto(itemRequestRepository.saveAndFlush(itemRequest));
 	}
 
-	private Map<Long, List<Item>> getItemsByRequestIds(Set<Long> requestIds) {
-		Map<Long, List<Item>> itemsByRequestIds = new HashMap<>();
-		itemRepository.findAllByRequestIdIn(requestIds)
-				.forEach(item -> {
-					List<Item> itemsByRequestId = itemsByRequestIds.getOrDefault(item.getRequest().getId(), new ArrayList<>());
-					itemsByRequestId.add(item);
-					itemsByRequestIds.put(item.getRequest().getId(), itemsByRequestId);
-				});
-		return itemsByRequestIds;
+	private Map<Long, List<ItemForRequestView>> getItemsByRequestIds(Set<Long> requestIds) {
+		return ItemMapper.groupByRequestId(itemRepository.findAllForRequestByRequestIdIn(requestIds));
 	}
 }
@@ -1,7 +1,12 @@
 package ru.practicum.shareit.user.dao;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.jdbc.QueryIndexes;
+import ru.practicum.shareit.jdbc.RequiresIndex;
 import ru.practicum.shareit.user.model.User;
 
 import java.util.Optional;
@@ -9,5 +14,10 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+	@RequiresIndex(name = QueryIndexes.UQ_USER_EMAIL, table = "users", columns = "email")
 	Optional<User> findAllByEmail(String email);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select user from User user where user.id = ?1")
+	Optional<User> findForUpdateById(Long id);
 }
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.user.dao.UserRepository;
+
+@Component
+@RequiredArgsConstructor
+public class UserExistenceCache {
+
+	public static final String CACHE_NAME = "userExists";
+
+	private final UserRepository userRepository;
+
+	@Cacheable(cacheNames = CACHE_NAME, unless = "!#result")
+	public boolean exists(Long userId) {
+		return userRepository.existsById(userId);
+	}
+
+	@CacheEvict(cacheNames = CACHE_NAME)
+	public void evict(Long userId) {
+	}
+}
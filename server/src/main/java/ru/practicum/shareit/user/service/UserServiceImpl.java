@@ -2,15 +2,24 @@ package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.index.BookingCalendarIndex;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
 import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -20,9 +29,20 @@ public class UserServiceImpl implements UserService {
 
 	private final UserRepository userRepository;
 
+	private final BookingIntervalIndex bookingIntervalIndex;
+
+	private final BookingCalendarIndex bookingCalendarIndex;
+
+	private final ItemRepository itemRepository;
+
+	private final BookingRepository bookingRepository;
+
+	private final UserExistenceCache userExistenceCache;
+
 	private static final String NOT_FOUND_USER_BY_ID = "Пользователь не найден: ID = %d";
 
 	@Override
+	@Transactional(readOnly = true)
 	public UserDto getUser(Long id) {
 		Optional<User> optionalUser = userRepository.findById(id);
 		return UserMapper.toUserDto(optionalUser.orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_BY_ID, id)));
@@ -45,12 +65,20 @@ public class UserServiceImpl implements UserService {
 			user.setEmail(userRequest.getEmail());
 		}
 		validateUser(user);
+		userExistenceCache.evict(userId);
 		return UserMapper.toUserDto(userRepository.saveAndFlush(user));
 	}
 
 	@Override
+	@Transactional
 	public void deleteUser(Long id) {
+		userRepository.findForUpdateById(id);
+		List<Long> bookedItemIds = bookingRepository.findItemIdsByBookerId(id);
 		userRepository.deleteById(id);
+		if (!bookedItemIds.isEmpty()) {
+			itemRepository.refreshBookingDatesByIdIn(LocalDateTime.now(), bookedItemIds);
+		}
+		evictAfterCommit(id);
 	}
 
 	public void validateUser(User user) {
@@ -62,4 +90,23 @@ public class UserServiceImpl implements UserService {
 			throw new ConflictException("Нарушена уникальность пользователей по email");
 		}
 	}
+
+	private void evictAfterCommit(Long userId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict(userId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evict(userId);
+			}
+		});
+	}
+
+	private void evict(Long userId) {
+		userExistenceCache.evict(userId);
+		bookingIntervalIndex.clear();
+		bookingCalendarIndex.clear();
+	}
 }
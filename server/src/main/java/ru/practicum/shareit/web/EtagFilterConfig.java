@@ -0,0 +1,19 @@
+package ru.practicum.shareit.web;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+public class EtagFilterConfig {
+
+	@Bean
+	public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {
+		FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+				new FilterRegistrationBean<>(new SingleResourceEtagFilter());
+		registration.addUrlPatterns("/items/*", "/users/*", "/requests/*");
+		registration.setName("etagFilter");
+		return registration;
+	}
+}
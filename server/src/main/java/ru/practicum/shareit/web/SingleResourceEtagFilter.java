@@ -0,0 +1,18 @@
+package ru.practicum.shareit.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.util.regex.Pattern;
+
+public class SingleResourceEtagFilter extends ShallowEtagHeaderFilter {
+
+	private static final Pattern SINGLE_RESOURCE = Pattern.compile("/(items|users|requests)/\\d+");
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		return !HttpMethod.GET.matches(request.getMethod()) || !SINGLE_RESOURCE.matcher(path).matches();
+	}
+}
@@ -1,3 +1,13 @@
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS requests_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS comments_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS users (
   id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
   name VARCHAR(255) NOT NULL,
@@ -41,4 +51,4 @@ CREATE TABLE IF NOT EXISTS comments (
   author_id BIGINT REFERENCES users (id) ON DELETE CASCADE,
   created_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
   CONSTRAINT pk_comment PRIMARY KEY (id)
-);
\ No newline at end of file
+);
@@ -0,0 +1,17 @@
+CREATE INDEX IF NOT EXISTS ix_items_owner ON items (owner_id);
+
+CREATE INDEX IF NOT EXISTS ix_items_request ON items (request_id);
+
+CREATE INDEX IF NOT EXISTS ix_requests_requestor_created ON requests (requestor_id, created_date DESC);
+
+CREATE INDEX IF NOT EXISTS ix_requests_created ON requests (created_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS ix_bookings_item_period ON bookings (item_id, start_date, end_date);
+
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_start ON bookings (booker_id, start_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_item_end_status ON bookings (booker_id, item_id, end_date, status);
+
+CREATE INDEX IF NOT EXISTS ix_comments_item ON comments (item_id);
+
+CREATE INDEX IF NOT EXISTS ix_comments_author ON comments (author_id);
@@ -0,0 +1,27 @@
+ALTER TABLE items ADD COLUMN IF NOT EXISTS last_booking_id BIGINT;
+
+ALTER TABLE items ADD COLUMN IF NOT EXISTS last_booking_end TIMESTAMP WITHOUT TIME ZONE;
+
+ALTER TABLE items ADD COLUMN IF NOT EXISTS next_booking_id BIGINT;
+
+ALTER TABLE items ADD COLUMN IF NOT EXISTS next_booking_start TIMESTAMP WITHOUT TIME ZONE;
+
+UPDATE items SET
+  last_booking_id = (SELECT b.id FROM bookings b
+    WHERE b.item_id = items.id AND b.status IN ('WAITING', 'APPROVED')
+    AND b.start_date < LOCALTIMESTAMP AND b.end_date > LOCALTIMESTAMP
+    ORDER BY b.end_date DESC, b.id LIMIT 1),
+  last_booking_end = (SELECT max(b.end_date) FROM bookings b
+    WHERE b.item_id = items.id AND b.status IN ('WAITING', 'APPROVED')
+    AND b.start_date < LOCALTIMESTAMP AND b.end_date > LOCALTIMESTAMP),
+  next_booking_id = (SELECT b.id FROM bookings b
+    WHERE b.item_id = items.id AND b.status IN ('WAITING', 'APPROVED')
+    AND b.start_date > LOCALTIMESTAMP
+    ORDER BY b.start_date, b.id LIMIT 1),
+  next_booking_start = (SELECT min(b.start_date) FROM bookings b
+    WHERE b.item_id = items.id AND b.status IN ('WAITING', 'APPROVED')
+    AND b.start_date > LOCALTIMESTAMP);
+
+CREATE INDEX IF NOT EXISTS ix_items_last_booking_end ON items (last_booking_end);
+
+CREATE INDEX IF NOT EXISTS ix_items_next_booking_start ON items (next_booking_start);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS ix_bookings_status_start ON bookings (status, start_date);
@@ -0,0 +1,33 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class QueryCounter {
+
+	private final EntityManager entityManager;
+
+	private final Statistics statistics;
+
+	public QueryCounter(EntityManager entityManager) {
+		this.entityManager = entityManager;
+		this.statistics = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+		this.statistics.setStatisticsEnabled(true);
+	}
+
+	public <T> T assertQueryCount(long expected, Supplier<T> action) {
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+		T result = action.get();
+		assertEquals(expected, statistics.getPrepareStatementCount(), "Неожиданное количество SQL-запросов");
+		return result;
+	}
+}
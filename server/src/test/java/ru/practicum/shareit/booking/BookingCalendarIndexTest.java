@@ -0,0 +1,63 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.index.BookingCalendarIndex;
+import ru.practicum.shareit.booking.lock.ItemLockManager;
+import ru.practicum.shareit.item.dao.ItemRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingCalendarIndexTest {
+
+	@Mock
+	private BookingRepository bookingRepository;
+
+	@Mock
+	private ItemRepository itemRepository;
+
+	@Mock
+	private ItemLockManager itemLockManager;
+
+	@Test
+	void localModeReusesCachedCalendar() {
+		when(itemLockManager.isClusterWide()).thenReturn(false);
+
+		findFreeSlotsTwice();
+
+		verify(itemRepository, times(1)).findIsAvailableById(1L);
+	}
+
+	@Test
+	void clusterWideModeReadsDatabaseEveryTime() {
+		when(itemLockManager.isClusterWide()).thenReturn(true);
+
+		findFreeSlotsTwice();
+
+		verify(itemRepository, times(2)).findIsAvailableById(1L);
+	}
+
+	private void findFreeSlotsTwice() {
+		when(itemRepository.findIsAvailableById(1L)).thenReturn(Optional.of(true));
+		when(bookingRepository.findAllIntervalsByItemId(any(), any(), any())).thenReturn(List.of());
+		BookingCalendarIndex index = new BookingCalendarIndex(bookingRepository, itemRepository, itemLockManager,
+				100, Duration.ofMinutes(5));
+		LocalDateTime from = LocalDateTime.now().plusDays(1);
+
+		assertTrue(index.findFreeSlots(1L, from, from.plusDays(1)).isPresent());
+		assertTrue(index.findFreeSlots(1L, from, from.plusDays(1)).isPresent());
+	}
+}
@@ -1,35 +1,60 @@
 package ru.practicum.shareit.booking;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.QueryCounter;
 import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dao.BookingOverlapConstraint;
+import ru.practicum.shareit.booking.dao.BookingRepository;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.index.BookingCalendarIndex;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
+import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingExpiryJob;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.exception.ConditionsNotMetException;
 import ru.practicum.shareit.exception.NoRightsException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.dto.CreateItemRequest;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@SpringBootTest(classes = ShareItServer.class)
+@SpringBootTest(classes = ShareItServer.class, properties = "shareit.scheduling.enabled=false")
 @AutoConfigureTestDatabase
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 @Transactional
@@ -51,6 +76,62 @@ public class BookingControllerIntegrationTest {
 	@Autowired
 	private final ItemService itemService;
 
+	@Autowired
+	private final EntityManager entityManager;
+
+	@Autowired
+	private final BookingRepository bookingRepository;
+
+	@Autowired
+	private final ItemRepository itemRepository;
+
+	@Autowired
+	private final BookingIntervalIndex bookingIntervalIndex;
+
+	@Autowired
+	private final BookingCalendarIndex bookingCalendarIndex;
+
+	@Autowired
+	private final TransactionTemplate transactionTemplate;
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void expireStaleWaitingBookingsInBatches() {
+		String suffix = UUID.randomUUID().toString();
+		UserDto userDto = userService.addUser(UserDto.builder().name("owner").email("owner_" + suffix + "@mail.ru").build());
+		UserDto bookerDto = userService.addUser(UserDto.builder().name("booker").email("booker_" + suffix + "@mail.ru").build());
+		try {
+			ItemDto item = itemService.addItem(createItemRequest(), userDto.getId());
+			ItemDto otherItem = itemService.addItem(createItemRequest(), userDto.getId());
+			LocalDateTime now = LocalDateTime.now();
+			Booking stale = saveBooking(item.getId(), bookerDto.getId(), BookingStatus.WAITING, now.minusHours(1), now.plusHours(2));
+			Booking otherStale = saveBooking(otherItem.getId(), bookerDto.getId(), BookingStatus.WAITING, now.minusDays(2), now.minusDays(1));
+			Booking approved = saveBooking(otherItem.getId(), bookerDto.getId(), BookingStatus.APPROVED, now.minusHours(1), now.plusHours(1));
+			Booking future = saveBooking(item.getId(), bookerDto.getId(), BookingStatus.WAITING, now.plusDays(1), now.plusDays(2));
+			BookingExpiryJob expiryJob = new BookingExpiryJob(bookingRepository, itemRepository,
+					bookingIntervalIndex, bookingCalendarIndex, transactionTemplate, 1);
+
+			assertTrue(expiryJob.expireStaleBookings() >= 2);
+
+			assertEquals(BookingStatus.EXPIRED, bookingRepository.findById(stale.getId()).orElseThrow().getStatus());
+			assertEquals(BookingStatus.EXPIRED, bookingRepository.findById(otherStale.getId()).orElseThrow().getStatus());
+			assertEquals(BookingStatus.APPROVED, bookingRepository.findById(approved.getId()).orElseThrow().getStatus());
+			assertEquals(BookingStatus.WAITING, bookingRepository.findById(future.getId()).orElseThrow().getStatus());
+			assertEquals(0, expiryJob.expireStaleBookings());
+			assertThrows(ConditionsNotMetException.class,
+					() -> bookingService.approveBooking(stale.getId(), userDto.getId(), true));
+			BookingDto replacement = bookingController.create(bookerDto.getId(), BookingRequestDto.builder()
+					.itemId(item.getId())
+					.start(now.plusHours(1))
+					.end(now.plusHours(3))
+					.build());
+			assertEquals(BookingStatus.WAITING, replacement.getStatus());
+		} finally {
+			userService.deleteUser(userDto.getId());
+			userService.deleteUser(bookerDto.getId());
+		}
+	}
+
 	@Test
 	void createBooking() {
 		UserDto userDto = userService.addUser(getNewUserDto());
@@ -91,6 +172,173 @@ public class BookingControllerIntegrationTest {
 		});
 	}
 
+	@Test
+	void createOverlappingBooking() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto bookerDto = userService.addUser(getNewUserDto());
+		ItemDto item = itemService.addItem(createItemRequest(), userDto.getId());
+		LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+		BookingDto bookingDto = bookingController.create(bookerDto.getId(), BookingRequestDto.builder()
+				.itemId(item.getId())
+				.start(start)
+				.end(start.plusHours(2))
+				.build());
+
+		BookingRequestDto overlapping = BookingRequestDto.builder()
+				.itemId(item.getId())
+				.start(start.plusHours(1))
+				.end(start.plusHours(3))
+				.build();
+		assertThrows(ConditionsNotMetException.class, () -> bookingController.create(bookerDto.getId(), overlapping));
+
+		bookingController.update(userDto.getId(), bookingDto.getId(), false);
+		assertNotNull(bookingController.create(bookerDto.getId(), overlapping).getId());
+
+		assertThrows(ConditionsNotMetException.class, () -> bookingController.update(userDto.getId(), bookingDto.getId(), true));
+
+		assertNotNull(bookingController.create(bookerDto.getId(), BookingRequestDto.builder()
+				.itemId(item.getId())
+				.start(start.plusHours(3))
+				.end(start.plusHours(4))
+				.build()).getId());
+	}
+
+	@Test
+	void createBookingRejectedByDatabaseConstraint() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto bookerDto = userService.addUser(getNewUserDto());
+		ItemDto item = itemService.addItem(createItemRequest(), userDto.getId());
+		LocalDateTime start = LocalDateTime.now().plusDays(1);
+		bookingController.create(bookerDto.getId(), BookingRequestDto.builder()
+				.itemId(item.getId())
+				.start(start)
+				.end(start.plusHours(1))
+				.build());
+		bookingRepository.saveAndFlush(Booking.builder()
+				.item(entityManager.getReference(Item.class, item.getId()))
+				.booker(entityManager.getReference(User.class, bookerDto.getId()))
+				.status(BookingStatus.WAITING)
+				.start(start.plusHours(2))
+				.end(start.plusHours(3))
+				.build());
+
+		BookingRequestDto overlapping = BookingRequestDto.builder()
+				.itemId(item.getId())
+				.start(start.plusHours(2).plusMinutes(30))
+				.end(start.plusHours(4))
+				.build();
+		assertThrows(ConditionsNotMetException.class, () -> bookingController.create(bookerDto.getId(), overlapping));
+	}
+
+	@Test
+	void overlappingActiveBookingsViolateConstraint() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto bookerDto = userService.addUser(getNewUserDto());
+		ItemDto item = itemService.addItem(createItemRequest(), userDto.getId());
+		LocalDateTime start = LocalDateTime.now().plusDays(1);
+		bookingRepository.saveAndFlush(Booking.builder()
+				.item(entityManager.getReference(Item.class, item.getId()))
+				.booker(entityManager.getReference(User.class, bookerDto.getId()))
+				.status(BookingStatus.REJECTED)
+				.start(start)
+				.end(start.plusHours(2))
+				.build());
+		bookingRepository.saveAndFlush(Booking.builder()
+				.item(entityManager.getReference(Item.class, item.getId()))
+				.booker(entityManager.getReference(User.class, bookerDto.getId()))
+				.status(BookingStatus.APPROVED)
+				.start(start)
+				.end(start.plusHours(1))
+				.build());
+		Booking adjacent = bookingRepository.saveAndFlush(Booking.builder()
+				.item(entityManager.getReference(Item.class, item.getId()))
+				.booker(entityManager.getReference(User.class, bookerDto.getId()))
+				.status(BookingStatus.WAITING)
+				.start(start.plusHours(1))
+				.end(start.plusHours(2))
+				.build());
+		assertNotNull(adjacent.getId());
+
+		DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+				() -> bookingRepository.saveAndFlush(Booking.builder()
+						.item(entityManager.getReference(Item.class, item.getId()))
+						.booker(entityManager.getReference(User.class, bookerDto.getId()))
+						.status(BookingStatus.WAITING)
+						.start(start.plusMinutes(30))
+						.end(start.plusMinutes(90))
+						.build()));
+		assertTrue(BookingOverlapConstraint.isViolatedBy(exception));
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void createConcurrentBookingsForSameItem() throws Exception {
+		String suffix = UUID.randomUUID().toString();
+		UserDto owner = userService.addUser(UserDto.builder().name("owner").email("owner_" + suffix + "@mail.ru").build());
+		UserDto booker = userService.addUser(UserDto.builder().name("booker").email("booker_" + suffix + "@mail.ru").build());
+		try {
+			ItemDto item = itemService.addItem(CreateItemRequest.builder()
+					.name("drill")
+					.description("concurrent")
+					.isAvailable(true)
+					.build(), owner.getId());
+			LocalDateTime start = LocalDateTime.now().plusDays(1);
+			int threads = 8;
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			CountDownLatch ready = new CountDownLatch(1);
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				LocalDateTime bookingStart = start.plusMinutes(i);
+				results.add(executor.submit(() -> {
+					ready.await();
+					try {
+						bookingService.addBooking(BookingRequestDto.builder()
+								.itemId(item.getId())
+								.start(bookingStart)
+								.end(bookingStart.plusHours(1))
+								.build(), booker.getId());
+						return true;
+					} catch (ConditionsNotMetException e) {
+						return false;
+					}
+				}));
+			}
+			ready.countDown();
+			int created = 0;
+			for (Future<Boolean> result : results) {
+				created += result.get() ? 1 : 0;
+			}
+			executor.shutdown();
+
+			assertEquals(1, created);
+			assertEquals(1, bookingService.getBookingsByItemOwnerIdAndState(owner.getId(), BookingState.ALL, null, 0, 10)
+					.getContent().size());
+		} finally {
+			userService.deleteUser(owner.getId());
+			userService.deleteUser(booker.getId());
+		}
+	}
+
+	@Test
+	void getBookingInOneQuery() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto bookerDto = userService.addUser(getNewUserDto());
+		ItemDto item = itemService.addItem(createItemRequest(), userDto.getId());
+		BookingDto bookingDto = bookingController.create(bookerDto.getId(), BookingRequestDto.builder()
+				.itemId(item.getId())
+				.start(LocalDateTime.now().plusDays(1))
+				.end(LocalDateTime.now().plusDays(2))
+				.build());
+		QueryCounter queryCounter = new QueryCounter(entityManager);
+
+		BookingDto result = queryCounter.assertQueryCount(1,
+				() -> bookingController.get(bookerDto.getId(), bookingDto.getId()));
+
+		assertEquals(bookerDto.getId(), result.getBooker().getId());
+		assertEquals(item.getId(), result.getItem().getId());
+	}
+
 	@Test
 	void updateBooking() {
 		UserDto userDto = userService.addUser(getNewUserDto());
@@ -136,27 +384,27 @@ public class BookingControllerIntegrationTest {
 		bookingDto = bookingController.update(userDto.getId(), bookingDto.getId(), true);
 
 		BookingDto bookingDtoGet = null;
-		Collection<BookingDto> bookingByUser = null;
-		Collection<BookingDto> bookingByItemOwner = null;
+		List<BookingDto> bookingByUser = null;
+		List<BookingDto> bookingByItemOwner = null;
 		try {
 			bookingDtoGet = bookingController.get(bookerDto.getId(), bookingDto.getId());
-			bookingByUser = bookingController.getBookingsByUser(bookerDto.getId(), BookingState.ALL);
-			bookingByItemOwner = bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.ALL);
+			bookingByUser = bookingController.getBookingsByUser(bookerDto.getId(), BookingState.ALL, null, 0, 10).getBody();
+			bookingByItemOwner = bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.ALL, null, 0, 10).getBody();
 
-			bookingController.getBookingsByUser(bookerDto.getId(), BookingState.CURRENT);
-			bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.CURRENT);
+			bookingController.getBookingsByUser(bookerDto.getId(), BookingState.CURRENT, null, 0, 10);
+			bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.CURRENT, null, 0, 10);
 
-			bookingController.getBookingsByUser(bookerDto.getId(), BookingState.PAST);
-			bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.PAST);
+			bookingController.getBookingsByUser(bookerDto.getId(), BookingState.PAST, null, 0, 10);
+			bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.PAST, null, 0, 10);
 
-			bookingController.getBookingsByUser(bookerDto.getId(), BookingState.FUTURE);
-			bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.FUTURE);
+			bookingController.getBookingsByUser(bookerDto.getId(), BookingState.FUTURE, null, 0, 10);
+			bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.FUTURE, null, 0, 10);
 
-			bookingController.getBookingsByUser(bookerDto.getId(), BookingState.WAITING);
-			bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.WAITING);
+			bookingController.getBookingsByUser(bookerDto.getId(), BookingState.WAITING, null, 0, 10);
+			bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.WAITING, null, 0, 10);
 
-			bookingController.getBookingsByUser(bookerDto.getId(), BookingState.REJECTED);
-			bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.REJECTED);
+			bookingController.getBookingsByUser(bookerDto.getId(), BookingState.REJECTED, null, 0, 10);
+			bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.REJECTED, null, 0, 10);
 		} catch (Exception e) {
 			Assertions.fail(e.getMessage());
 		}
@@ -172,6 +420,53 @@ public class BookingControllerIntegrationTest {
 		});
 	}
 
+	@Test
+	void getBookingsWithCursor() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto bookerDto = userService.addUser(getNewUserDto());
+		LocalDateTime start = LocalDateTime.now().plusDays(1);
+		for (int i = 0; i < 3; i++) {
+			ItemDto item = itemService.addItem(createItemRequest(), userDto.getId());
+			bookingController.create(bookerDto.getId(), BookingRequestDto.builder()
+					.itemId(item.getId())
+					.start(start.plusDays(i))
+					.end(start.plusDays(i).plusHours(1))
+					.build());
+		}
+
+		ResponseEntity<List<BookingDto>> firstPage = bookingController.getBookingsByUser(bookerDto.getId(), BookingState.ALL, null, 0, 2);
+		String cursor = firstPage.getHeaders().getFirst(CursorPage.NEXT_CURSOR_HEADER);
+		assertNotNull(firstPage.getBody());
+		assertEquals(2, firstPage.getBody().size());
+		assertNotNull(cursor);
+		assertEquals(bookerDto, firstPage.getBody().getFirst().getBooker());
+		assertEquals("name", firstPage.getBody().getFirst().getItem().getName());
+		assertNull(firstPage.getBody().getFirst().getItem().getRequest());
+
+		ResponseEntity<List<BookingDto>> secondPage = bookingController.getBookingsByUser(bookerDto.getId(), BookingState.ALL, cursor, 0, 2);
+		assertNotNull(secondPage.getBody());
+		assertEquals(1, secondPage.getBody().size());
+		assertNull(secondPage.getHeaders().getFirst(CursorPage.NEXT_CURSOR_HEADER));
+		assertTrue(secondPage.getBody().getFirst().getStart().isBefore(firstPage.getBody().getLast().getStart()));
+
+		List<BookingDto> offsetPage = bookingController.getBookingsByItemOwner(userDto.getId(), BookingState.FUTURE, null, 2, 2).getBody();
+		assertNotNull(offsetPage);
+		assertEquals(1, offsetPage.size());
+		assertEquals(secondPage.getBody().getFirst().getId(), offsetPage.getFirst().getId());
+
+		assertThrows(ValidationException.class, () -> bookingController.getBookingsByUser(bookerDto.getId(), BookingState.ALL, "broken", 0, 2));
+	}
+
+	private Booking saveBooking(Long itemId, Long bookerId, BookingStatus status, LocalDateTime start, LocalDateTime end) {
+		return bookingRepository.saveAndFlush(Booking.builder()
+				.item(entityManager.getReference(Item.class, itemId))
+				.booker(entityManager.getReference(User.class, bookerId))
+				.status(status)
+				.start(start)
+				.end(end)
+				.build());
+	}
+
 	private UserDto getNewUserDto() {
 		userCount++;
 		return UserDto.builder()
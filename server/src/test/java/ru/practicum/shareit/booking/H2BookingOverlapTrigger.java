@@ -0,0 +1,44 @@
+package ru.practicum.shareit.booking;
+
+import org.h2.tools.TriggerAdapter;
+import ru.practicum.shareit.booking.dao.BookingOverlapConstraint;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class H2BookingOverlapTrigger extends TriggerAdapter {
+
+	private static final String OVERLAPPING_BOOKING = "select 1 from bookings " +
+			"where item_id = ? " +
+			"and id <> ? " +
+			"and status in ('WAITING', 'APPROVED') " +
+			"and start_date < ? " +
+			"and end_date > ? " +
+			"limit 1";
+
+	@Override
+	public void fire(Connection conn, ResultSet oldRow, ResultSet newRow) throws SQLException {
+		if (newRow == null || !isActive(newRow.getString("status"))) {
+			return;
+		}
+		try (PreparedStatement statement = conn.prepareStatement(OVERLAPPING_BOOKING)) {
+			statement.setLong(1, newRow.getLong("item_id"));
+			statement.setLong(2, newRow.getLong("id"));
+			statement.setObject(3, newRow.getObject("end_date"));
+			statement.setObject(4, newRow.getObject("start_date"));
+			try (ResultSet overlapping = statement.executeQuery()) {
+				if (overlapping.next()) {
+					throw new SQLException("Нарушено ограничение " + BookingOverlapConstraint.NAME
+							+ ": период бронирования пересекается с существующим", BookingOverlapConstraint.SQL_STATE);
+				}
+			}
+		}
+	}
+
+	private static boolean isActive(String status) {
+		return BookingStatus.WAITING.name().equals(status) || BookingStatus.APPROVED.name().equals(status);
+	}
+}
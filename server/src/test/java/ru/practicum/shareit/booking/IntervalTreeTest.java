@@ -0,0 +1,99 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.index.IntervalTree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntervalTreeTest {
+
+	@Test
+	void overlapsHalfOpenIntervals() {
+		IntervalTree tree = new IntervalTree();
+		tree.put(1L, 10, 20);
+		tree.put(2L, 30, 40);
+
+		assertTrue(tree.overlaps(15, 16));
+		assertTrue(tree.overlaps(5, 11));
+		assertTrue(tree.overlaps(19, 31));
+		assertFalse(tree.overlaps(20, 30));
+		assertFalse(tree.overlaps(0, 10));
+		assertFalse(tree.overlaps(40, 50));
+	}
+
+	@Test
+	void findsLongIntervalHiddenBehindShortOnes() {
+		IntervalTree tree = new IntervalTree();
+		tree.put(1L, 0, 1000);
+		for (long i = 2; i < 100; i++) {
+			tree.put(i, i * 10, i * 10 + 1);
+		}
+
+		assertTrue(tree.overlaps(995, 999));
+		assertFalse(tree.overlaps(1000, 2000));
+	}
+
+	@Test
+	void removeEndedBeforeKeepsCurrentAndFutureIntervals() {
+		IntervalTree tree = new IntervalTree();
+		for (long i = 0; i < 50; i++) {
+			tree.put(i, i * 10, i * 10 + 5);
+		}
+		tree.put(100L, 0, 1000);
+
+		assertEquals(30, tree.removeEndedBefore(300));
+		assertEquals(21, tree.size());
+		assertEquals(0, tree.removeEndedBefore(300));
+		assertTrue(tree.overlaps(250, 260));
+
+		tree.remove(100L, 0);
+		assertFalse(tree.overlaps(0, 300));
+		assertTrue(tree.overlaps(300, 301));
+	}
+
+	@Test
+	void putIsIdempotentAndRemoveDropsInterval() {
+		IntervalTree tree = new IntervalTree();
+		tree.put(1L, 10, 20);
+		tree.put(1L, 10, 20);
+		assertEquals(1, tree.size());
+
+		tree.remove(1L, 10);
+		assertEquals(0, tree.size());
+		assertFalse(tree.overlaps(10, 20));
+
+		tree.remove(1L, 10);
+		assertEquals(0, tree.size());
+	}
+
+	@Test
+	void matchesLinearScan() {
+		Random random = new Random(42);
+		IntervalTree tree = new IntervalTree();
+		List<long[]> intervals = new ArrayList<>();
+		for (long id = 0; id < 500; id++) {
+			long start = random.nextInt(10_000);
+			long[] interval = {id, start, start + 1 + random.nextInt(50)};
+			intervals.add(interval);
+			tree.put(interval[0], interval[1], interval[2]);
+		}
+		for (int i = 0; i < 250; i++) {
+			long[] interval = intervals.remove(random.nextInt(intervals.size()));
+			tree.remove(interval[0], interval[1]);
+		}
+		assertEquals(intervals.size(), tree.size());
+
+		for (int i = 0; i < 1_000; i++) {
+			long start = random.nextInt(10_000);
+			long end = start + 1 + random.nextInt(100);
+			boolean expected = intervals.stream().anyMatch(interval -> interval[1] < end && start < interval[2]);
+			assertEquals(expected, tree.overlaps(start, end));
+		}
+	}
+}
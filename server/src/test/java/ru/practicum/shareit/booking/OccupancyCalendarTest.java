@@ -0,0 +1,58 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.index.OccupancyCalendar;
+import ru.practicum.shareit.booking.index.OccupancyCalendar.Range;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OccupancyCalendarTest {
+
+	private static final long HOUR = 3600;
+
+	@Test
+	void bookingsOccupyWholeHours() {
+		OccupancyCalendar calendar = new OccupancyCalendar(0, 48, true);
+		calendar.put(1L, 2 * HOUR + 600, 3 * HOUR + 60);
+		calendar.put(2L, 6 * HOUR, 8 * HOUR);
+
+		assertEquals(List.of(
+				new Range(HOUR / 2, 2 * HOUR),
+				new Range(4 * HOUR, 6 * HOUR),
+				new Range(8 * HOUR, 10 * HOUR + 60)), calendar.freeRanges(HOUR / 2, 10 * HOUR + 60));
+	}
+
+	@Test
+	void removeKeepsHoursSharedWithOtherBookings() {
+		OccupancyCalendar calendar = new OccupancyCalendar(0, 48, true);
+		calendar.put(1L, HOUR, HOUR + 1800);
+		calendar.put(2L, HOUR + 1800, 3 * HOUR);
+		calendar.remove(2L);
+
+		assertEquals(1, calendar.cardinality());
+		assertEquals(List.of(new Range(0, HOUR), new Range(2 * HOUR, 4 * HOUR)), calendar.freeRanges(0, 4 * HOUR));
+	}
+
+	@Test
+	void unavailableItemHasNoFreeRanges() {
+		OccupancyCalendar calendar = new OccupancyCalendar(0, 48, false);
+
+		assertEquals(List.of(), calendar.freeRanges(0, 4 * HOUR));
+	}
+
+	@Test
+	void storesOnlyHoursWithinHorizon() {
+		OccupancyCalendar calendar = new OccupancyCalendar(10 * HOUR, 24, true);
+		calendar.put(1L, 0, 12 * HOUR);
+		calendar.put(2L, 30 * HOUR, 100 * HOUR);
+
+		assertEquals(2 + 4, calendar.cardinality());
+		assertEquals(List.of(new Range(12 * HOUR, 30 * HOUR)), calendar.freeRanges(5 * HOUR, 34 * HOUR));
+		assertTrue(calendar.covers(34 * HOUR));
+		assertFalse(calendar.covers(34 * HOUR + 1));
+	}
+}
@@ -1,32 +1,61 @@
 package ru.practicum.shareit.item;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.QueryCounter;
 import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dao.BookingRepository;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.ConditionsNotMetException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.dto.AvailabilitySlotDto;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CreateItemRequest;
+import ru.practicum.shareit.item.dto.CreateItemsRequest;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemOwnerDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemBookingDatesJob;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@SpringBootTest(classes = ShareItServer.class)
+@SpringBootTest(classes = ShareItServer.class, properties = "shareit.scheduling.enabled=false")
 @AutoConfigureTestDatabase
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 @Transactional
@@ -43,6 +72,24 @@ public class ItemControllerIntegrationTest {
 	@Autowired
 	private final BookingService bookingService;
 
+	@Autowired
+	private final ItemRequestService itemRequestService;
+
+	@Autowired
+	private final EntityManager entityManager;
+
+	@Autowired
+	private final BookingRepository bookingRepository;
+
+	@Autowired
+	private final ItemBookingDatesJob itemBookingDatesJob;
+
+	@Autowired
+	private final TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private final JdbcTemplate jdbcTemplate;
+
 	@Test
 	void createItem() {
 		UserDto userDto = userService.addUser(getNewUserDto());
@@ -57,6 +104,30 @@ public class ItemControllerIntegrationTest {
 		assertNotNull(item.getId());
 	}
 
+	@Test
+	void createItemsInBatch() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		List<CreateItemRequest> createItemRequests = IntStream.range(0, 120)
+				.mapToObj(i -> createItemRequest())
+				.toList();
+
+		List<ItemDto> items = itemController.createAll(userDto.getId(), new CreateItemsRequest(createItemRequests));
+
+		assertEquals(120, items.stream().map(ItemDto::getId).distinct().count());
+		assertEquals(120, itemController.get(userDto.getId()).size());
+	}
+
+	@Test
+	void createItemsWithNotExistsRequest() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		CreateItemRequest createItemRequest = createItemRequest();
+		createItemRequest.setRequestId(Long.MAX_VALUE);
+
+		assertThrows(NotFoundException.class,
+				() -> itemController.createAll(userDto.getId(), new CreateItemsRequest(List.of(createItemRequest))));
+		assertTrue(itemController.get(userDto.getId()).isEmpty());
+	}
+
 	@Test
 	void updateItem() {
 		UserDto userDto = userService.addUser(getNewUserDto());
@@ -138,6 +209,216 @@ public class ItemControllerIntegrationTest {
 		assertEquals(itemDto.getId(), itemDtoResult.stream().toList().getFirst().getId());
 	}
 
+	@Test
+	void getItemsByUserWithoutNPlusOneQueries() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto requestorDto = userService.addUser(getNewUserDto());
+		for (int i = 0; i < 3; i++) {
+			ItemRequestDto itemRequest = itemRequestService.addItemRequest(ItemRequestDto.builder()
+					.description("request " + i)
+					.build(), requestorDto.getId());
+			CreateItemRequest createItemRequest = createItemRequest();
+			createItemRequest.setRequestId(itemRequest.getId());
+			itemController.create(userDto.getId(), createItemRequest);
+		}
+		itemController.get(userDto.getId());
+		QueryCounter queryCounter = new QueryCounter(entityManager);
+
+		Collection<ItemOwnerDto> items = queryCounter.assertQueryCount(2, () -> itemController.get(userDto.getId()));
+
+		assertEquals(3, items.size());
+		items.forEach(item -> assertEquals(requestorDto.getId(), item.getRequest().getRequestor().getId()));
+	}
+
+	@Test
+	void searchItemsFetchesRequestsInOneQuery() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto requestorDto = userService.addUser(getNewUserDto());
+		for (int i = 0; i < 3; i++) {
+			ItemRequestDto itemRequest = itemRequestService.addItemRequest(ItemRequestDto.builder()
+					.description("request " + i)
+					.build(), requestorDto.getId());
+			CreateItemRequest createItemRequest = createItemRequest();
+			createItemRequest.setRequestId(itemRequest.getId());
+			itemController.create(userDto.getId(), createItemRequest);
+		}
+		itemController.get(userDto.getId());
+		QueryCounter queryCounter = new QueryCounter(entityManager);
+
+		Collection<ItemDto> items = queryCounter.assertQueryCount(2,
+				() -> itemController.search(userDto.getId(), "name", 0, 10, null, null));
+
+		assertEquals(3, items.size());
+		items.forEach(item -> assertEquals(requestorDto.getId(), item.getRequest().getRequestor().getId()));
+	}
+
+	@Test
+	void getItemsByUserWithBookingDates() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto bookerDto = userService.addUser(getNewUserDto());
+		ItemDto bookedItem = itemController.create(userDto.getId(), createItemRequest());
+		ItemDto freeItem = itemController.create(userDto.getId(), createItemRequest());
+		LocalDateTime now = LocalDateTime.now();
+
+		BookingDto current = bookingService.addBooking(BookingRequestDto.builder()
+				.itemId(bookedItem.getId())
+				.start(now.minusHours(1))
+				.end(now.plusHours(1))
+				.build(), bookerDto.getId());
+		bookingService.addBooking(BookingRequestDto.builder()
+				.itemId(bookedItem.getId())
+				.start(now.plusDays(2))
+				.end(now.plusDays(3))
+				.build(), bookerDto.getId());
+		BookingDto next = bookingService.addBooking(BookingRequestDto.builder()
+				.itemId(bookedItem.getId())
+				.start(now.plusDays(1))
+				.end(now.plusDays(1).plusHours(12))
+				.build(), bookerDto.getId());
+
+		Collection<ItemOwnerDto> itemDtoResult = itemController.get(userDto.getId());
+
+		assertEquals(2, itemDtoResult.size());
+		ItemOwnerDto bookedResult = itemDtoResult.stream()
+				.filter(itemOwnerDto -> itemOwnerDto.getId().equals(bookedItem.getId()))
+				.findFirst()
+				.orElseThrow();
+		assertEquals(current.getEnd(), bookedResult.getLastBooking());
+		assertEquals(next.getStart(), bookedResult.getNextBooking());
+		ItemOwnerDto freeResult = itemDtoResult.stream()
+				.filter(itemOwnerDto -> itemOwnerDto.getId().equals(freeItem.getId()))
+				.findFirst()
+				.orElseThrow();
+		assertNull(freeResult.getLastBooking());
+		assertNull(freeResult.getNextBooking());
+	}
+
+	@Test
+	void getAvailabilityFollowsBookings() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto bookerDto = userService.addUser(getNewUserDto());
+		ItemDto item = itemController.create(userDto.getId(), createItemRequest());
+		LocalDateTime day = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).plusDays(2);
+
+		BookingDto booking = bookingService.addBooking(BookingRequestDto.builder()
+				.itemId(item.getId())
+				.start(day.plusHours(10).plusMinutes(30))
+				.end(day.plusHours(12))
+				.build(), bookerDto.getId());
+
+		ItemAvailabilityDto availability = itemController.getAvailability(bookerDto.getId(), item.getId(), day, day.plusDays(1));
+
+		assertEquals(List.of(
+				AvailabilitySlotDto.builder().start(day).end(day.plusHours(10)).build(),
+				AvailabilitySlotDto.builder().start(day.plusHours(12)).end(day.plusDays(1)).build()), availability.getFree());
+
+		bookingService.approveBooking(booking.getId(), userDto.getId(), false);
+
+		assertEquals(List.of(AvailabilitySlotDto.builder().start(day).end(day.plusDays(1)).build()),
+				itemController.getAvailability(bookerDto.getId(), item.getId(), day, day.plusDays(1)).getFree());
+
+		itemController.update(userDto.getId(), item.getId(), UpdateItemRequest.builder().isAvailable(false).build());
+
+		assertEquals(List.of(), itemController.getAvailability(bookerDto.getId(), item.getId(), day, day.plusDays(1)).getFree());
+	}
+
+	@Test
+	void getAvailabilityValidatesPeriod() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		ItemDto item = itemController.create(userDto.getId(), createItemRequest());
+		LocalDateTime day = LocalDateTime.now().plusDays(1);
+
+		assertThrows(ValidationException.class,
+				() -> itemController.getAvailability(userDto.getId(), item.getId(), day, day));
+		assertThrows(ValidationException.class,
+				() -> itemController.getAvailability(userDto.getId(), item.getId(), day, day.plusDays(400)));
+		assertThrows(NotFoundException.class,
+				() -> itemController.getAvailability(userDto.getId(), item.getId() + 1000, day, day.plusDays(1)));
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void rollForwardSkipsItemsLockedByBookingWrites() throws Exception {
+		String suffix = UUID.randomUUID().toString();
+		UserDto owner = userService.addUser(UserDto.builder().name("owner").email("owner_" + suffix + "@mail.ru").build());
+		UserDto booker = userService.addUser(UserDto.builder().name("booker").email("booker_" + suffix + "@mail.ru").build());
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			ItemDto item = itemController.create(owner.getId(), createItemRequest());
+			LocalDateTime start = LocalDateTime.now().plusDays(1);
+			bookingService.addBooking(BookingRequestDto.builder()
+					.itemId(item.getId())
+					.start(start)
+					.end(start.plusDays(1))
+					.build(), booker.getId());
+			CountDownLatch locked = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			Future<?> writer = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.queryForList("select id from items where id = ? for update", item.getId());
+				locked.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}));
+			locked.await();
+
+			assertEquals(0, itemBookingDatesJob.rollForward(start.plusHours(1)));
+
+			release.countDown();
+			writer.get();
+			assertEquals(1, itemBookingDatesJob.rollForward(start.plusHours(1)));
+		} finally {
+			executor.shutdownNow();
+			userService.deleteUser(owner.getId());
+			userService.deleteUser(booker.getId());
+		}
+	}
+
+	@Test
+	void getItemsByUserWithRolledForwardBookingDates() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto bookerDto = userService.addUser(getNewUserDto());
+		UserDto otherBookerDto = userService.addUser(getNewUserDto());
+		ItemDto item = itemController.create(userDto.getId(), createItemRequest());
+		LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+		BookingDto first = bookingService.addBooking(BookingRequestDto.builder()
+				.itemId(item.getId())
+				.start(start)
+				.end(start.plusDays(1))
+				.build(), bookerDto.getId());
+		BookingDto second = bookingService.addBooking(BookingRequestDto.builder()
+				.itemId(item.getId())
+				.start(start.plusDays(2))
+				.end(start.plusDays(3))
+				.build(), otherBookerDto.getId());
+
+		ItemOwnerDto beforeStart = itemController.get(userDto.getId()).iterator().next();
+		assertNull(beforeStart.getLastBooking());
+		assertEquals(first.getStart(), beforeStart.getNextBooking());
+
+		itemBookingDatesJob.rollForward(start.plusHours(1));
+		entityManager.clear();
+
+		ItemOwnerDto inProgress = itemController.get(userDto.getId()).iterator().next();
+		assertEquals(first.getEnd(), inProgress.getLastBooking());
+		assertEquals(second.getStart(), inProgress.getNextBooking());
+
+		bookingService.approveBooking(first.getId(), userDto.getId(), false);
+		entityManager.clear();
+
+		assertEquals(second.getStart(), itemController.get(userDto.getId()).iterator().next().getNextBooking());
+
+		userService.deleteUser(otherBookerDto.getId());
+		entityManager.clear();
+
+		ItemOwnerDto afterDelete = itemController.get(userDto.getId()).iterator().next();
+		assertNull(afterDelete.getLastBooking());
+		assertNull(afterDelete.getNextBooking());
+	}
+
 	@Test
 	void searchItems() {
 		UserDto userDto = userService.addUser(getNewUserDto());
@@ -146,8 +427,8 @@ public class ItemControllerIntegrationTest {
 		Collection<ItemDto> itemDtoResult = null;
 		Collection<ItemDto> itemDtoEmptyResult = null;
 		try {
-			itemDtoResult = itemController.search(userDto.getId(), "name");
-			itemDtoEmptyResult = itemController.search(userDto.getId(), "");
+			itemDtoResult = itemController.search(userDto.getId(), "name", 0, 10, null, null);
+			itemDtoEmptyResult = itemController.search(userDto.getId(), "", 0, 10, null, null);
 		} catch (Exception e) {
 			Assertions.fail(e.getMessage());
 		}
@@ -159,6 +440,73 @@ public class ItemControllerIntegrationTest {
 		assertEquals(0, itemDtoEmptyResult.size());
 	}
 
+	@Test
+	void searchItemsRankedAndPaged() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		ItemDto byDescription = itemController.create(userDto.getId(), CreateItemRequest.builder()
+				.name("Перфоратор")
+				.description("Мощнее, чем дрель")
+				.isAvailable(true)
+				.build());
+		ItemDto byName = itemController.create(userDto.getId(), CreateItemRequest.builder()
+				.name("Дрель")
+				.description("Аккумуляторная")
+				.isAvailable(true)
+				.build());
+		itemController.create(userDto.getId(), CreateItemRequest.builder()
+				.name("Дрель ударная")
+				.description("Сломана")
+				.isAvailable(false)
+				.build());
+
+		List<ItemDto> firstPage = itemController.search(userDto.getId(), "ДРЕЛЬ", 0, 1, null, null).stream().toList();
+		List<ItemDto> secondPage = itemController.search(userDto.getId(), "ДРЕЛЬ", 1, 1, null, null).stream().toList();
+		Collection<ItemDto> wildcard = itemController.search(userDto.getId(), "%", 0, 10, null, null);
+
+		assertEquals(List.of(byName), firstPage);
+		assertEquals(List.of(byDescription), secondPage);
+		assertEquals(0, wildcard.size());
+	}
+
+	@Test
+	void searchItemsAvailableInPeriod() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto bookerDto = userService.addUser(getNewUserDto());
+		ItemDto booked = itemController.create(userDto.getId(), createItemRequest("Бензопила"));
+		ItemDto rejected = itemController.create(userDto.getId(), createItemRequest("Бензопила садовая"));
+		ItemDto free = itemController.create(userDto.getId(), createItemRequest("Бензопила цепная"));
+		LocalDateTime start = LocalDateTime.now().plusDays(5);
+		LocalDateTime end = start.plusDays(2);
+
+		bookingService.addBooking(BookingRequestDto.builder()
+				.itemId(booked.getId())
+				.start(start.plusDays(1))
+				.end(end.plusDays(1))
+				.build(), bookerDto.getId());
+		BookingDto rejectedBooking = bookingService.addBooking(BookingRequestDto.builder()
+				.itemId(rejected.getId())
+				.start(start)
+				.end(end)
+				.build(), bookerDto.getId());
+		bookingService.approveBooking(rejectedBooking.getId(), userDto.getId(), false);
+		BookingDto adjacent = bookingService.addBooking(BookingRequestDto.builder()
+				.itemId(free.getId())
+				.start(start.minusDays(1))
+				.end(start)
+				.build(), bookerDto.getId());
+		bookingService.approveBooking(adjacent.getId(), userDto.getId(), true);
+
+		Collection<ItemDto> all = itemController.search(userDto.getId(), "бензопила", 0, 10, null, null);
+		Collection<ItemDto> available = itemController.search(userDto.getId(), "бензопила", 0, 10, start, end);
+
+		assertEquals(3, all.size());
+		assertEquals(List.of(rejected.getId(), free.getId()), available.stream().map(ItemDto::getId).toList());
+		assertThrows(ValidationException.class,
+				() -> itemController.search(userDto.getId(), "бензопила", 0, 10, start, null));
+		assertThrows(ValidationException.class,
+				() -> itemController.search(userDto.getId(), "бензопила", 0, 10, end, start));
+	}
+
 	@Test
 	void createComment() {
 		UserDto userDto = userService.addUser(getNewUserDto());
@@ -187,6 +535,57 @@ public class ItemControllerIntegrationTest {
 		assertNotNull(commentDto.getId());
 	}
 
+	@Test
+	void createCommentWithRejectedBooking() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto bookerDto = userService.addUser(getNewUserDto());
+		ItemDto item = itemController.create(userDto.getId(), createItemRequest());
+		saveEndedBooking(item.getId(), bookerDto.getId(), BookingStatus.REJECTED);
+		CommentDto commentDto = CommentDto.builder()
+				.text("comment")
+				.build();
+
+		assertThrows(ConditionsNotMetException.class,
+				() -> itemController.createComment(bookerDto.getId(), item.getId(), commentDto));
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void createCommentAfterApprovalWithdrawn() {
+		String suffix = UUID.randomUUID().toString();
+		UserDto userDto = userService.addUser(UserDto.builder().name("owner").email("owner_" + suffix + "@mail.ru").build());
+		UserDto bookerDto = userService.addUser(UserDto.builder().name("booker").email("booker_" + suffix + "@mail.ru").build());
+		try {
+			ItemDto item = itemController.create(userDto.getId(), createItemRequest());
+			Long bookingId = saveEndedBooking(item.getId(), bookerDto.getId(), BookingStatus.APPROVED);
+
+			CommentDto comment = itemController.createComment(bookerDto.getId(), item.getId(), CommentDto.builder()
+					.text("comment")
+					.build());
+			assertNotNull(comment.getId());
+
+			bookingService.approveBooking(bookingId, userDto.getId(), false);
+
+			assertThrows(ConditionsNotMetException.class,
+					() -> itemController.createComment(bookerDto.getId(), item.getId(), CommentDto.builder()
+							.text("another comment")
+							.build()));
+		} finally {
+			userService.deleteUser(userDto.getId());
+			userService.deleteUser(bookerDto.getId());
+		}
+	}
+
+	private Long saveEndedBooking(Long itemId, Long bookerId, BookingStatus status) {
+		return bookingRepository.saveAndFlush(Booking.builder()
+				.item(entityManager.getReference(Item.class, itemId))
+				.booker(entityManager.getReference(User.class, bookerId))
+				.status(status)
+				.start(LocalDateTime.now().minusDays(2))
+				.end(LocalDateTime.now().minusDays(1))
+				.build()).getId();
+	}
+
 	private UserDto getNewUserDto() {
 		userCount++;
 		return UserDto.builder()
@@ -195,6 +594,14 @@ public class ItemControllerIntegrationTest {
 				.build();
 	}
 
+	private CreateItemRequest createItemRequest(String name) {
+		return CreateItemRequest.builder()
+				.name(name)
+				.description("desc")
+				.isAvailable(true)
+				.build();
+	}
+
 	private CreateItemRequest createItemRequest() {
 		return CreateItemRequest.builder()
 				.name("name")
@@ -8,19 +8,26 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import ru.practicum.shareit.error.ErrorHandler;
+import ru.practicum.shareit.item.dto.AvailabilitySlotDto;
 import ru.practicum.shareit.item.dto.CreateItemRequest;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemOwnerDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.web.EtagFilterConfig;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.Mockito.when;
@@ -28,6 +35,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -138,6 +146,34 @@ public class ItemControllerTest {
 		Mockito.verify(itemService, Mockito.times(1)).deleteItem(itemId, userId);
 	}
 
+	@Test
+	void getAvailability() throws Exception {
+		UserDto userDto = getNewUserDto();
+		LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+		LocalDateTime to = from.plusDays(1);
+		ItemAvailabilityDto availabilityDto = ItemAvailabilityDto.builder()
+				.itemId(itemCount)
+				.from(from)
+				.to(to)
+				.free(List.of(AvailabilitySlotDto.builder()
+						.start(from.plusHours(12))
+						.end(to)
+						.build()))
+				.build();
+
+		when(itemService.getAvailability(itemCount, userDto.getId(), from, to))
+				.thenReturn(availabilityDto);
+
+		mockMvc.perform(get("/items/{id}/availability", itemCount)
+						.param("from", "2030-01-01T00:00:00")
+						.param("to", "2030-01-02T00:00:00")
+						.accept(MediaType.APPLICATION_JSON)
+						.header("X-Sharer-User-Id", userDto.getId())
+				).andExpect(status().isOk())
+				.andExpect(jsonPath("$.itemId").value(itemCount))
+				.andExpect(jsonPath("$.free.length()").value(1));
+	}
+
 	@Test
 	void getItem() throws Exception {
 		UserDto userDto = getNewUserDto();
@@ -196,6 +232,24 @@ public class ItemControllerTest {
 				.getItemsByUser(userDto.getId());
 	}
 
+	@Test
+	void searchItemsWithoutEtag() throws Exception {
+		FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter = new EtagFilterConfig().shallowEtagHeaderFilter();
+		MockMvc etagMockMvc = MockMvcBuilders
+				.standaloneSetup(itemController)
+				.addFilter(etagFilter.getFilter(), etagFilter.getUrlPatterns().toArray(String[]::new))
+				.build();
+		UserDto userDto = getNewUserDto();
+		when(itemService.search("name", null, null, userDto.getId(), 0, 10))
+				.thenReturn(List.of(ItemDto.builder().id(itemCount++).name("name").build()));
+
+		etagMockMvc.perform(get("/items/search?text=name")
+						.accept(MediaType.APPLICATION_JSON)
+						.header("X-Sharer-User-Id", userDto.getId()))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.ETAG));
+	}
+
 	@Test
 	void searchItems() throws Exception {
 		UserDto userDto = getNewUserDto();
@@ -208,7 +262,7 @@ public class ItemControllerTest {
 				.build();
 		String searchText = "name";
 
-		when(itemService.search(searchText, userDto.getId()))
+		when(itemService.search(searchText, null, null, userDto.getId(), 0, 10))
 				.thenReturn(List.of(itemDto));
 
 		mockMvc.perform(get("/items/search?text=" + searchText)
@@ -223,7 +277,7 @@ public class ItemControllerTest {
 				.andExpect(jsonPath("$[*].description").value(itemDto.getDescription()));
 
 		Mockito.verify(itemService, Mockito.times(1))
-				.search(searchText, userDto.getId());
+				.search(searchText, null, null, userDto.getId(), 0, 10);
 	}
 
 	private UserDto getNewUserDto() {
@@ -5,14 +5,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import ru.practicum.shareit.booking.index.BookingCalendarIndex;
+import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.CommentView;
 import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dao.ItemView;
+import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CreateItemRequest;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.UpdateItemRequest;
-import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
-import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemServiceImpl;
 import ru.practicum.shareit.request.dao.ItemRequestRepository;
@@ -21,16 +26,23 @@ import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserExistenceCache;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -53,6 +65,14 @@ public class ItemServiceTest {
 	@Mock
 	private CommentRepository commentRepository;
 
+	@Mock
+	private UserExistenceCache userExistenceCache;
+
+	@Mock
+	private BookingCalendarIndex bookingCalendarIndex;
+
+	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
 	private Long userCount = 1L;
 
 	private Long itemCount = 1L;
@@ -107,7 +127,7 @@ public class ItemServiceTest {
 		when(userRepository.findById(anyLong()))
 				.thenReturn(Optional.of(user));
 
-		when(itemRequestRepository.findById(anyLong()))
+		when(itemRequestRepository.findWithRequestorById(anyLong()))
 				.thenReturn(Optional.of(itemRequest));
 
 		when(itemRepository.saveAndFlush(ItemMapper.fromCreateItemRequest(createItemRequest, user, itemRequest)))
@@ -118,42 +138,83 @@ public class ItemServiceTest {
 		assertEquals(createItemRequest.getName(), itemDtoCreated.getName());
 		assertEquals(createItemRequest.getDescription(), itemDtoCreated.getDescription());
 		verify(userRepository, times(1)).findById(anyLong());
-		verify(itemRequestRepository, times(1)).findById(anyLong());
+		verify(itemRequestRepository, times(1)).findWithRequestorById(anyLong());
 		verify(itemRepository, times(1)).saveAndFlush(any());
 	}
 
 	@Test
 	void getItem() {
 		User user = UserMapper.fromUserDto(getNewUserDto());
-		Item item = Item.builder()
-				.id(itemCount++)
-				.name("name")
-				.description("description")
-				.isAvailable(true)
-				.build();
-		Comment comment = Comment.builder()
-				.text("comment")
-				.author(UserMapper.fromUserDto(getNewUserDto()))
-				.item(item)
-				.build();
+		UserDto author = getNewUserDto();
+		Long itemId = itemCount++;
+		Map<String, Object> itemValues = new HashMap<>();
+		itemValues.put("id", itemId);
+		itemValues.put("name", "name");
+		itemValues.put("description", "description");
+		itemValues.put("isAvailable", true);
+		ItemView item = projectionFactory.createProjection(ItemView.class, itemValues);
+		Map<String, Object> commentValues = new HashMap<>();
+		commentValues.put("id", 1L);
+		commentValues.put("itemId", itemId);
+		commentValues.put("authorName", author.getName());
+		commentValues.put("text", "comment");
+		CommentView comment = projectionFactory.createProjection(CommentView.class, commentValues);
 
-		when(userRepository.findById(user.getId()))
-				.thenReturn(Optional.of(user));
-		when(itemRepository.findById(item.getId()))
+		when(userExistenceCache.exists(user.getId()))
+				.thenReturn(true);
+		when(itemRepository.findViewById(itemId))
 				.thenReturn(Optional.of(item));
-		when(commentRepository.findAllByItemIdIn(Set.of(item.getId())))
+		when(commentRepository.findAllViewsByItemIdIn(Set.of(itemId)))
 				.thenReturn(List.of(comment));
 
-		ItemDto itemDto = itemService.getItem(item.getId(), user.getId());
+		ItemDto itemDto = itemService.getItem(itemId, user.getId());
 
 		assertNotNull(itemDto);
-		assertEquals(item.getId(), itemDto.getId());
+		assertEquals(itemId, itemDto.getId());
 		assertEquals(item.getName(), itemDto.getName());
 		assertEquals(item.getDescription(), itemDto.getDescription());
+		assertNull(itemDto.getRequest());
 		assertEquals(1, itemDto.getComments().size());
-		assertEquals(CommentMapper.toCommentDto(comment), itemDto.getComments().stream().toList().getFirst());
-		verify(itemRepository, times(1)).findById(item.getId());
-		verify(commentRepository, times(1)).findAllByItemIdIn(Set.of(item.getId()));
+		CommentDto commentDto = itemDto.getComments().stream().toList().getFirst();
+		assertEquals(author.getName(), commentDto.getAuthorName());
+		assertEquals("comment", commentDto.getText());
+		assertEquals(itemId, commentDto.getItem().getId());
+		verify(itemRepository, times(1)).findViewById(itemId);
+		verify(commentRepository, times(1)).findAllViewsByItemIdIn(Set.of(itemId));
+	}
+
+	@Test
+	void searchSkipsItemsDeletedAfterMatching() {
+		Long itemId = itemCount++;
+		Long deletedItemId = itemCount++;
+		Map<String, Object> itemValues = new HashMap<>();
+		itemValues.put("id", itemId);
+		itemValues.put("name", "name");
+		itemValues.put("description", "description");
+		itemValues.put("isAvailable", true);
+		ItemView item = projectionFactory.createProjection(ItemView.class, itemValues);
+
+		when(userExistenceCache.exists(1L))
+				.thenReturn(true);
+		when(itemRepository.findIdsUsingSearch("name", null, null, 0, 10))
+				.thenReturn(List.of(deletedItemId, itemId));
+		when(itemRepository.findAllViewsByIdIn(List.of(deletedItemId, itemId)))
+				.thenReturn(List.of(item));
+
+		Collection<ItemDto> items = itemService.search("name", null, null, 1L, 0, 10);
+
+		assertEquals(1, items.size());
+		assertEquals(itemId, items.iterator().next().getId());
+	}
+
+	@Test
+	void getItemByNotExistsUser() {
+		when(userExistenceCache.exists(anyLong()))
+				.thenReturn(false);
+
+		assertThrows(NotFoundException.class, () -> itemService.getItem(1L, -1L));
+		verify(itemRepository, never()).findViewById(anyLong());
+		verify(userRepository, never()).findById(anyLong());
 	}
 
 	@Test
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.jdbc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ConcurrencyLimitingDataSourceTest {
+
+	@Mock
+	private DataSource target;
+
+	@Mock
+	private Connection connection;
+
+	@Test
+	void connectionCloseReleasesPermitOnce() throws SQLException {
+		when(target.getConnection()).thenReturn(connection);
+		ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 2, Duration.ofMillis(10));
+
+		Connection limited = dataSource.getConnection();
+		assertEquals(1, dataSource.availablePermits());
+
+		limited.close();
+		limited.close();
+
+		assertEquals(2, dataSource.availablePermits());
+		verify(connection, times(2)).close();
+	}
+
+	@Test
+	void getConnectionTimesOutWhenLimitReached() throws SQLException {
+		when(target.getConnection()).thenReturn(connection);
+		ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(10));
+
+		Connection limited = dataSource.getConnection();
+
+		assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+		limited.close();
+		dataSource.getConnection();
+		verify(target, times(2)).getConnection();
+	}
+
+	@Test
+	void failedGetConnectionReleasesPermit() throws SQLException {
+		when(target.getConnection()).thenThrow(new SQLException("down"));
+		ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(10));
+
+		assertThrows(SQLException.class, dataSource::getConnection);
+
+		assertEquals(1, dataSource.availablePermits());
+	}
+}
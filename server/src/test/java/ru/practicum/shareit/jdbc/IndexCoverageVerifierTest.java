@@ -0,0 +1,103 @@
+package ru.practicum.shareit.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import ru.practicum.shareit.jdbc.IndexCoverageVerifier.RequiredIndex;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexCoverageVerifierTest {
+
+	private EmbeddedDatabase dataSource;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.generateUniqueName(true)
+				.build();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE bookings (id BIGINT PRIMARY KEY, item_id BIGINT, booker_id BIGINT, start_date TIMESTAMP)");
+		jdbcTemplate.execute("CREATE INDEX ix_bookings_item_start ON bookings (item_id, start_date DESC)");
+	}
+
+	@AfterEach
+	void tearDown() {
+		dataSource.shutdown();
+	}
+
+	@Test
+	void indexPrefixCoversQuery() throws SQLException {
+		List<RequiredIndex> missing = IndexCoverageVerifier.findMissing(dataSource, List.of(
+				new RequiredIndex("pk_bookings", "bookings", List.of("id")),
+				new RequiredIndex("ix_bookings_item_start", "bookings", List.of("item_id")),
+				new RequiredIndex("ix_bookings_item_start", "bookings", List.of("item_id", "start_date"))));
+
+		assertEquals(List.of(), missing);
+	}
+
+	@Test
+	void reportsQueriesWithoutLeadingIndexColumns() throws SQLException {
+		RequiredIndex byBooker = new RequiredIndex("ix_bookings_booker", "bookings", List.of("booker_id"));
+		RequiredIndex byStart = new RequiredIndex("ix_bookings_start", "bookings", List.of("start_date", "item_id"));
+
+		List<RequiredIndex> missing = IndexCoverageVerifier.findMissing(dataSource, List.of(
+				new RequiredIndex("ix_bookings_item_start", "bookings", List.of("item_id")),
+				byBooker,
+				byStart));
+
+		assertEquals(List.of(byBooker, byStart), missing);
+	}
+
+	@Test
+	void collectsIndexesRequiredByRepositoryMethods() {
+		BookingsByBooker repository = bookerId -> List.of();
+
+		assertEquals(List.of(new RequiredIndex(QueryIndexes.IX_BOOKINGS_BOOKER_START, "bookings", List.of("booker_id"))),
+				IndexCoverageVerifier.findRequired(List.of(repository)));
+	}
+
+	@Test
+	void failsWhenRequiredIndexIsMissing() {
+		BookingsByBooker repository = bookerId -> List.of();
+		IndexCoverageVerifier verifier = new IndexCoverageVerifier(dataSource, List.of(repository));
+
+		assertThrows(IllegalStateException.class, verifier::afterSingletonsInstantiated);
+	}
+
+	@Test
+	void requiredIndexNamesAreCreatedByMigrations() throws IOException, IllegalAccessException {
+		StringBuilder migrations = new StringBuilder();
+		for (Resource migration : new PathMatchingResourcePatternResolver().getResources("classpath*:db/migration/**/*.sql")) {
+			migrations.append(migration.getContentAsString(StandardCharsets.UTF_8).toLowerCase(Locale.ROOT));
+		}
+
+		for (Field field : QueryIndexes.class.getFields()) {
+			String name = (String) field.get(null);
+			assertTrue(migrations.indexOf(" " + name + " ") >= 0, "Индекс " + name + " не создаётся миграциями");
+		}
+	}
+
+	interface BookingsByBooker extends Repository<Object, Long> {
+
+		@RequiresIndex(name = QueryIndexes.IX_BOOKINGS_BOOKER_START, table = "bookings", columns = "booker_id")
+		List<Object> findAllByBookerId(Long bookerId);
+	}
+}
@@ -6,18 +6,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.Collection;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
-@SpringBootTest(classes = ShareItServer.class)
+@SpringBootTest(classes = ShareItServer.class, properties = "shareit.scheduling.enabled=false")
 @AutoConfigureTestDatabase
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 @Transactional
@@ -88,7 +92,7 @@ public class ItemRequestControllerIntegrationTest {
 
 		Collection<ItemRequestDto> itemRequests = null;
 		try {
-			itemRequests = itemRequestController.getRequestsFromOtherUsers(itemRequestDto.getRequestor().getId());
+			itemRequests = itemRequestController.getRequestsFromOtherUsers(itemRequestDto.getRequestor().getId(), null, 10).getBody();
 		} catch (Exception e) {
 			Assertions.fail(e.getMessage());
 		}
@@ -97,6 +101,24 @@ public class ItemRequestControllerIntegrationTest {
 		assertEquals(itemRequestDtoOtherUser, itemRequests.stream().toList().getFirst());
 	}
 
+	@Test
+	void getOtherUserItemRequestsWithCursor() {
+		UserDto userDto = userService.addUser(getNewUserDto());
+		UserDto otherUserDto = userService.addUser(getNewUserDto());
+		ItemRequestDto first = itemRequestController.create(getNewItemRequestDto(otherUserDto), otherUserDto.getId());
+		ItemRequestDto second = itemRequestController.create(getNewItemRequestDto(otherUserDto), otherUserDto.getId());
+		ItemRequestDto third = itemRequestController.create(getNewItemRequestDto(otherUserDto), otherUserDto.getId());
+
+		ResponseEntity<List<ItemRequestDto>> firstPage = itemRequestController.getRequestsFromOtherUsers(userDto.getId(), null, 2);
+		String cursor = firstPage.getHeaders().getFirst(CursorPage.NEXT_CURSOR_HEADER);
+		ResponseEntity<List<ItemRequestDto>> secondPage = itemRequestController.getRequestsFromOtherUsers(userDto.getId(), cursor, 2);
+
+		assertEquals(List.of(third.getId(), second.getId()), firstPage.getBody().stream().map(ItemRequestDto::getId).toList());
+		assertNotNull(cursor);
+		assertEquals(List.of(first.getId()), secondPage.getBody().stream().map(ItemRequestDto::getId).toList());
+		assertNull(secondPage.getHeaders().getFirst(CursorPage.NEXT_CURSOR_HEADER));
+	}
+
 	private UserDto getNewUserDto() {
 		userCount++;
 		return UserDto.builder()
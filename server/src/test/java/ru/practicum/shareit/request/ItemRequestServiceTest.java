@@ -5,11 +5,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dao.ItemForRequestView;
 import ru.practicum.shareit.item.dao.ItemRepository;
-import ru.practicum.shareit.item.mapper.ItemMapper;
-import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.dto.ItemForRequestDto;
 import ru.practicum.shareit.request.dao.ItemRequestRepository;
+import ru.practicum.shareit.request.dao.ItemRequestView;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -19,7 +23,9 @@ import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -47,6 +53,8 @@ public class ItemRequestServiceTest {
 	@Mock
 	private ItemRepository itemRepository;
 
+	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
 	private Long itemRequestCount = 1L;
 
 	private Long userCount = 1L;
@@ -54,14 +62,12 @@ public class ItemRequestServiceTest {
 	@Test
 	void getItemRequest() {
 		UserDto userDto = getNewUserDto();
-		User user = UserMapper.fromUserDto(userDto);
 
 		ItemRequestDto itemRequestDto = getNewItemRequestDto(userDto);
-		ItemRequest itemRequest = ItemRequestMapper.fromItemRequestDto(itemRequestDto, user);
-		when(itemRequestRepository.findById(itemRequestDto.getId()))
-				.thenReturn(Optional.of(itemRequest));
+		when(itemRequestRepository.findViewById(itemRequestDto.getId()))
+				.thenReturn(Optional.of(toItemRequestView(itemRequestDto)));
 
-		when(itemRepository.findAllByRequestIdIn(Set.of(itemRequestDto.getId())))
+		when(itemRepository.findAllForRequestByRequestIdIn(Set.of(itemRequestDto.getId())))
 				.thenReturn(List.of());
 
 		ItemRequestDto itemRequestDtoResult = itemRequestService.getItemRequest(itemRequestDto.getId());
@@ -70,18 +76,18 @@ public class ItemRequestServiceTest {
 		assertEquals(itemRequestDto.getId(), itemRequestDtoResult.getId());
 		assertEquals(itemRequestDto.getDescription(), itemRequestDtoResult.getDescription());
 		assertEquals(itemRequestDto.getRequestor(), itemRequestDtoResult.getRequestor());
-		verify(itemRequestRepository, times(1)).findById(itemRequestDto.getId());
+		verify(itemRequestRepository, times(1)).findViewById(itemRequestDto.getId());
 	}
 
 	@Test
 	void getNotExistsItemRequest() {
 		Long notExistsItemRequestId = -1L;
 
-		when(itemRequestRepository.findById(notExistsItemRequestId))
+		when(itemRequestRepository.findViewById(notExistsItemRequestId))
 				.thenReturn(Optional.empty());
 
 		assertThrows(NotFoundException.class, () -> itemRequestService.getItemRequest(notExistsItemRequestId));
-		verify(itemRequestRepository, times(1)).findById(notExistsItemRequestId);
+		verify(itemRequestRepository, times(1)).findViewById(notExistsItemRequestId);
 	}
 
 	@Test
@@ -90,24 +96,19 @@ public class ItemRequestServiceTest {
 		User user = UserMapper.fromUserDto(userDto);
 
 		UserDto otherUserDto = getNewUserDto();
-		User otherUser = UserMapper.fromUserDto(otherUserDto);
 
 		ItemRequestDto itemRequestDto = getNewItemRequestDto(userDto);
-		ItemRequest itemRequest = ItemRequestMapper.fromItemRequestDto(itemRequestDto, user);
-		when(itemRequestRepository.findAllByRequestorIdOrderByCreatedDesc(itemRequestDto.getId()))
-				.thenReturn(List.of(itemRequest));
-
+		when(itemRequestRepository.findAllViewsByRequestorId(user.getId()))
+				.thenReturn(List.of(toItemRequestView(itemRequestDto)));
 
-		Item item = Item.builder()
-				.id(1L)
-				.name("name")
-				.description("desc")
-				.owner(otherUser)
-				.isAvailable(true)
-				.request(itemRequest)
-				.build();
+		Map<String, Object> itemValues = new HashMap<>();
+		itemValues.put("id", 1L);
+		itemValues.put("name", "name");
+		itemValues.put("ownerId", otherUserDto.getId());
+		itemValues.put("requestId", itemRequestDto.getId());
+		ItemForRequestView item = projectionFactory.createProjection(ItemForRequestView.class, itemValues);
 
-		when(itemRepository.findAllByRequestIdIn(Set.of(itemRequestDto.getId())))
+		when(itemRepository.findAllForRequestByRequestIdIn(Set.of(itemRequestDto.getId())))
 				.thenReturn(List.of(item));
 
 		List<ItemRequestDto> itemRequestDtoResult = itemRequestService.getItemRequests(user.getId()).stream().toList();
@@ -118,9 +119,12 @@ public class ItemRequestServiceTest {
 		assertEquals(itemRequestDto.getDescription(), itemRequestDtoResult.getFirst().getDescription());
 		assertEquals(itemRequestDto.getRequestor(), itemRequestDtoResult.getFirst().getRequestor());
 		assertEquals(1, itemRequestDtoResult.getFirst().getItems().size());
-		assertEquals(ItemMapper.toItemForRequestDto(item), itemRequestDtoResult.getFirst().getItems().stream().toList().getFirst());
-		verify(itemRequestRepository, times(1)).findAllByRequestorIdOrderByCreatedDesc(itemRequestDto.getId());
-		verify(itemRepository, times(1)).findAllByRequestIdIn(any());
+		ItemForRequestDto itemResult = itemRequestDtoResult.getFirst().getItems().stream().toList().getFirst();
+		assertEquals(1L, itemResult.getId());
+		assertEquals(otherUserDto.getId(), itemResult.getOwnerId());
+		assertEquals("name", itemResult.getName());
+		verify(itemRequestRepository, times(1)).findAllViewsByRequestorId(user.getId());
+		verify(itemRepository, times(1)).findAllForRequestByRequestIdIn(any());
 	}
 
 	@Test
@@ -129,29 +133,24 @@ public class ItemRequestServiceTest {
 		User user = UserMapper.fromUserDto(userDto);
 
 		UserDto otherUserDto = getNewUserDto();
-		User otherUser = UserMapper.fromUserDto(otherUserDto);
-
-		ItemRequestDto itemRequestDto = getNewItemRequestDto(userDto);
-		ItemRequest itemRequest = ItemRequestMapper.fromItemRequestDto(itemRequestDto, user);
 
 		ItemRequestDto itemRequestDtoOtherUser = getNewItemRequestDto(otherUserDto);
-		ItemRequest itemRequestOtherUser = ItemRequestMapper.fromItemRequestDto(itemRequestDtoOtherUser, otherUser);
 
-		when(itemRequestRepository.findAllByRequestorIdNotOrderByCreatedDesc(user.getId()))
-				.thenReturn(List.of(itemRequestOtherUser));
+		when(itemRequestRepository.findAllViewsByRequestorIdNot(user.getId(), Limit.of(11)))
+				.thenReturn(List.of(toItemRequestView(itemRequestDtoOtherUser)));
 
-		when(itemRepository.findAllByRequestIdIn(Set.of(itemRequestOtherUser.getId())))
+		when(itemRepository.findAllForRequestByRequestIdIn(Set.of(itemRequestDtoOtherUser.getId())))
 				.thenReturn(List.of());
 
-		List<ItemRequestDto> itemRequestDtoResult = itemRequestService.getItemRequestsFromOtherUsers(user.getId()).stream().toList();
+		List<ItemRequestDto> itemRequestDtoResult = itemRequestService.getItemRequestsFromOtherUsers(user.getId(), null, 10).getContent();
 
 		assertNotNull(itemRequestDtoResult);
 		assertEquals(1, itemRequestDtoResult.size());
 		assertEquals(itemRequestDtoOtherUser.getId(), itemRequestDtoResult.getFirst().getId());
 		assertEquals(itemRequestDtoOtherUser.getDescription(), itemRequestDtoResult.getFirst().getDescription());
 		assertEquals(itemRequestDtoOtherUser.getRequestor(), itemRequestDtoResult.getFirst().getRequestor());
-		verify(itemRequestRepository, times(1)).findAllByRequestorIdNotOrderByCreatedDesc(user.getId());
-		verify(itemRepository, times(1)).findAllByRequestIdIn(any());
+		verify(itemRequestRepository, times(1)).findAllViewsByRequestorIdNot(user.getId(), Limit.of(11));
+		verify(itemRepository, times(1)).findAllForRequestByRequestIdIn(any());
 	}
 
 	@Test
@@ -185,6 +184,17 @@ public class ItemRequestServiceTest {
 				.build();
 	}
 
+	private ItemRequestView toItemRequestView(ItemRequestDto itemRequestDto) {
+		Map<String, Object> values = new HashMap<>();
+		values.put("id", itemRequestDto.getId());
+		values.put("description", itemRequestDto.getDescription());
+		values.put("created", itemRequestDto.getCreated());
+		values.put("requestorId", itemRequestDto.getRequestor().getId());
+		values.put("requestorName", itemRequestDto.getRequestor().getName());
+		values.put("requestorEmail", itemRequestDto.getRequestor().getEmail());
+		return projectionFactory.createProjection(ItemRequestView.class, values);
+	}
+
 	private ItemRequestDto getNewItemRequestDto(UserDto userDto) {
 		itemRequestCount++;
 		return ItemRequestDto.builder()
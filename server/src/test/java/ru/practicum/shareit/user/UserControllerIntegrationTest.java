@@ -6,18 +6,24 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.ShareItServer;
 import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserExistenceCache;
+
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@SpringBootTest(classes = ShareItServer.class)
+@SpringBootTest(classes = ShareItServer.class, properties = "shareit.scheduling.enabled=false")
 @AutoConfigureTestDatabase
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 @Transactional
@@ -28,6 +34,9 @@ public class UserControllerIntegrationTest {
 	@Autowired
 	private UserController userController;
 
+	@Autowired
+	private UserExistenceCache userExistenceCache;
+
 	@Test
 	void createUser() {
 		UserDto userDto = getNewUserDto();
@@ -121,6 +130,19 @@ public class UserControllerIntegrationTest {
 		}
 	}
 
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void deleteUserEvictsExistenceCache() {
+		UserDto userDto = userController.create(UserDto.builder()
+				.name("user")
+				.email("user_" + UUID.randomUUID() + "@mail.ru")
+				.build());
+
+		assertTrue(userExistenceCache.exists(userDto.getId()));
+		userController.delete(userDto.getId());
+		assertFalse(userExistenceCache.exists(userDto.getId()));
+	}
+
 	private UserDto getNewUserDto() {
 		userCount++;
 		return UserDto.builder()
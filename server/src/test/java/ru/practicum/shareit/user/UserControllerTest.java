@@ -8,15 +8,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import ru.practicum.shareit.error.ErrorHandler;
 import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.web.EtagFilterConfig;
 
 import java.nio.charset.StandardCharsets;
 
@@ -27,6 +31,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -108,6 +114,30 @@ public class UserControllerTest {
 				.getUser(anyLong());
 	}
 
+	@Test
+	void getUserWithEtagRevalidation() throws Exception {
+		FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter = new EtagFilterConfig().shallowEtagHeaderFilter();
+		MockMvc etagMockMvc = MockMvcBuilders
+				.standaloneSetup(userController)
+				.addFilter(etagFilter.getFilter(), etagFilter.getUrlPatterns().toArray(String[]::new))
+				.build();
+		UserDto userDto = getNewUserDto();
+		when(userService.getUser(anyLong()))
+				.thenReturn(userDto);
+
+		String etag = etagMockMvc.perform(get("/users/{userId}", userDto.getId())
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		etagMockMvc.perform(get("/users/{userId}", userDto.getId())
+						.header(HttpHeaders.IF_NONE_MATCH, etag)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+	}
+
 	@Test
 	void getUserByNotExistsId() throws Exception {
 		when(userService.getUser(anyLong()))
@@ -5,15 +5,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.index.BookingCalendarIndex;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserExistenceCache;
 import ru.practicum.shareit.user.service.UserServiceImpl;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -21,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,6 +42,21 @@ public class UserServiceTest {
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private BookingIntervalIndex bookingIntervalIndex;
+
+	@Mock
+	private BookingCalendarIndex bookingCalendarIndex;
+
+	@Mock
+	private ItemRepository itemRepository;
+
+	@Mock
+	private BookingRepository bookingRepository;
+
+	@Mock
+	private UserExistenceCache userExistenceCache;
+
 	private Long userCount = 1L;
 
 	@Test
@@ -111,6 +134,7 @@ public class UserServiceTest {
 		assertEquals(userDtoUpdated.getName(), userDtoUpdatedResult.getName());
 		assertEquals(userDtoUpdated.getEmail(), userDtoUpdatedResult.getEmail());
 		verify(userRepository, times(1)).saveAndFlush(any());
+		verify(userExistenceCache, times(1)).evict(userDto.getId());
 	}
 
 	@Test
@@ -136,9 +160,15 @@ public class UserServiceTest {
 	@Test
 	void deleteExistsUser() {
 		User user = getNewUser();
+		when(bookingRepository.findItemIdsByBookerId(user.getId()))
+				.thenReturn(List.of(10L, 11L));
 
 		assertDoesNotThrow(() -> userService.deleteUser(user.getId()));
 		verify(userRepository, times(1)).deleteById(user.getId());
+		verify(userExistenceCache, times(1)).evict(user.getId());
+		verify(bookingIntervalIndex, times(1)).clear();
+		verify(bookingCalendarIndex, times(1)).clear();
+		verify(itemRepository, times(1)).refreshBookingDatesByIdIn(any(LocalDateTime.class), eq(List.of(10L, 11L)));
 	}
 
 	private User getNewUser() {
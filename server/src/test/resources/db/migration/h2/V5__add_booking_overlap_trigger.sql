@@ -0,0 +1,2 @@
+CREATE TRIGGER IF NOT EXISTS ex_bookings_item_period BEFORE INSERT, UPDATE ON bookings
+  FOR EACH ROW CALL 'ru.practicum.shareit.booking.H2BookingOverlapTrigger';